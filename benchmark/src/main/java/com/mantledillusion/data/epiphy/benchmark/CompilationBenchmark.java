@@ -0,0 +1,66 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
+import com.mantledillusion.data.epiphy.object.model.ObjectModel;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubSubType;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks compiled {@link ModelProperty}s on plain objects, using the {@link CompilationMode} and the path depth as
+ * parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilationBenchmark {
+
+    @Param({"STEPS", "METHOD_HANDLES"})
+    private CompilationMode mode;
+
+    @Param({"1", "2", "3"})
+    private int depth;
+
+    private ObjectModel model;
+    private ModelProperty<ObjectModel, String> compiled;
+
+    @Setup
+    public void setup() {
+        this.model = new ObjectModel();
+        this.model.setModelId("model");
+        this.model.setSub(new ObjectSubType());
+        this.model.getSub().setSubId("sub");
+        this.model.getSub().setSubSub(new ObjectSubSubType());
+        this.model.getSub().getSubSub().setSubSubId("subSub");
+
+        ModelProperty<ObjectModel, String> property;
+        switch (this.depth) {
+            case 1:
+                property = ObjectModelProperties.MODELID;
+                break;
+            case 2:
+                property = ObjectModelProperties.MODEL_TO_SUBID;
+                break;
+            default:
+                property = ObjectModelProperties.MODEL_TO_SUBSUBID;
+        }
+        this.compiled = property.compile(this.mode);
+    }
+
+    @Benchmark
+    public String get() {
+        return this.compiled.get(this.model);
+    }
+
+    @Benchmark
+    public String getNullable() {
+        return this.compiled.get(this.model, true);
+    }
+}
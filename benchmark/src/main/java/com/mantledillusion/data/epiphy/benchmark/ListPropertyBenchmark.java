@@ -0,0 +1,85 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.list.ListModelProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link com.mantledillusion.data.epiphy.ModelPropertyList}s on nested {@link List}s, using the total
+ * element count as parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListPropertyBenchmark {
+
+    private static final int ELEMENTS_PER_LIST = 10;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<List<String>> model;
+    private Context context;
+    private ModelProperty<List<List<String>>, String> compiled;
+
+    @Setup
+    public void setup() {
+        this.model = new ArrayList<>();
+        for (int i = 0; i < this.size / ELEMENTS_PER_LIST; i++) {
+            List<String> elements = new ArrayList<>();
+            for (int j = 0; j < ELEMENTS_PER_LIST; j++) {
+                elements.add(i + "_" + j);
+            }
+            this.model.add(elements);
+        }
+        this.context = Context.of(
+                PropertyIndex.of(ListModelProperties.ELEMENTLIST, this.model.size() / 2),
+                PropertyIndex.of(ListModelProperties.ELEMENT, ELEMENTS_PER_LIST / 2));
+        this.compiled = ListModelProperties.ELEMENTLIST_TO_ELEMENT.compile();
+    }
+
+    @Benchmark
+    public String get() {
+        return ListModelProperties.ELEMENTLIST_TO_ELEMENT.get(this.model, this.context);
+    }
+
+    @Benchmark
+    public String getCompiled() {
+        return this.compiled.get(this.model, this.context);
+    }
+
+    @Benchmark
+    public void set() {
+        ListModelProperties.ELEMENTLIST_TO_ELEMENT.set(this.model, "value", this.context);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return ListModelProperties.ELEMENTLIST_TO_ELEMENT.exists(this.model, this.context);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return ListModelProperties.ELEMENTLIST_TO_ELEMENT.contextualize(this.model);
+    }
+
+    @Benchmark
+    public long stream() {
+        return ListModelProperties.ELEMENTLIST_TO_ELEMENT.stream(this.model).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return ListModelProperties.ELEMENTLIST_TO_ELEMENT.occurrences(this.model);
+    }
+}
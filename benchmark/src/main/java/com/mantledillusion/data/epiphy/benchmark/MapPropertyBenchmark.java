@@ -0,0 +1,77 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
+import com.mantledillusion.data.epiphy.map.MapModelProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link com.mantledillusion.data.epiphy.ModelPropertyMap}s on nested {@link Map}s, using the total
+ * entry count as parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapPropertyBenchmark {
+
+    private static final int ENTRIES_PER_MAP = 10;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private Map<String, Map<String, String>> model;
+    private Context context;
+
+    @Setup
+    public void setup() {
+        this.model = new HashMap<>();
+        for (int i = 0; i < this.size / ENTRIES_PER_MAP; i++) {
+            Map<String, String> entries = new HashMap<>();
+            for (int j = 0; j < ENTRIES_PER_MAP; j++) {
+                entries.put(String.valueOf(j), i + "_" + j);
+            }
+            this.model.put(String.valueOf(i), entries);
+        }
+        this.context = Context.of(
+                PropertyKey.ofMap(MapModelProperties.ELEMENTMAP, String.valueOf(this.model.size() / 2)),
+                PropertyKey.ofMap(MapModelProperties.ELEMENT, String.valueOf(ENTRIES_PER_MAP / 2)));
+    }
+
+    @Benchmark
+    public String get() {
+        return MapModelProperties.ELEMENTMAP_TO_ELEMENT.get(this.model, this.context);
+    }
+
+    @Benchmark
+    public void set() {
+        MapModelProperties.ELEMENTMAP_TO_ELEMENT.set(this.model, "value", this.context);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return MapModelProperties.ELEMENTMAP_TO_ELEMENT.exists(this.model, this.context);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return MapModelProperties.ELEMENTMAP_TO_ELEMENT.contextualize(this.model);
+    }
+
+    @Benchmark
+    public long stream() {
+        return MapModelProperties.ELEMENTMAP_TO_ELEMENT.stream(this.model).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return MapModelProperties.ELEMENTMAP_TO_ELEMENT.occurrences(this.model);
+    }
+}
@@ -0,0 +1,89 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.mixed.MixedModelProperties;
+import com.mantledillusion.data.epiphy.mixed.model.MixedModel;
+import com.mantledillusion.data.epiphy.mixed.model.MixedModelNode;
+import com.mantledillusion.data.epiphy.mixed.model.MixedModelNodeRoot;
+import com.mantledillusion.data.epiphy.mixed.model.MixedSubType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a path through objects, {@link java.util.List}s and nodes on a tree, using the tree's depth and fan out
+ * as parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixedPropertyBenchmark {
+
+    @Param({"2", "4", "6"})
+    private int depth;
+
+    @Param({"2", "5"})
+    private int fanOut;
+
+    private MixedModel model;
+    private Context context;
+
+    @Setup
+    public void setup() {
+        this.model = new MixedModel();
+        this.model.setRoot(new MixedModelNodeRoot());
+        this.model.getRoot().setNode(createNode("root", 0));
+
+        Context deepest = null;
+        for (Context context: MixedModelProperties.NODE_ID.contextualize(this.model)) {
+            deepest = context;
+        }
+        this.context = deepest;
+    }
+
+    private MixedModelNode createNode(String id, int level) {
+        MixedModelNode node = new MixedModelNode();
+        node.setNodeId(id);
+        node.setSub(new MixedSubType());
+        if (level < this.depth) {
+            for (int i = 0; i < this.fanOut; i++) {
+                node.getSub().getSubNodes().add(createNode(id + '_' + i, level + 1));
+            }
+        }
+        return node;
+    }
+
+    @Benchmark
+    public String get() {
+        return MixedModelProperties.NODE_ID.get(this.model, this.context);
+    }
+
+    @Benchmark
+    public void set() {
+        MixedModelProperties.NODE_ID.set(this.model, "value", this.context);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return MixedModelProperties.NODE_ID.exists(this.model, this.context);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return MixedModelProperties.NODE_ID.contextualize(this.model);
+    }
+
+    @Benchmark
+    public long stream() {
+        return MixedModelProperties.NODE_ID.stream(this.model).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return MixedModelProperties.NODE_ID.occurrences(this.model);
+    }
+}
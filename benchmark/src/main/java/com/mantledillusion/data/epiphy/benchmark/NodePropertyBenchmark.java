@@ -0,0 +1,79 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
+import com.mantledillusion.data.epiphy.node.NodeModelProperties;
+import com.mantledillusion.data.epiphy.node.model.NodeModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link com.mantledillusion.data.epiphy.ModelPropertyNode}s on a linear node chain, using the depth of
+ * the chain as parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePropertyBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int depth;
+
+    private NodeModel root;
+    private Context context;
+    private NodeModel value;
+
+    @Setup
+    public void setup() {
+        this.root = new NodeModel();
+        NodeModel leaf = this.root;
+        for (int i = 0; i < this.depth; i++) {
+            NodeModel child = new NodeModel();
+            child.setId(String.valueOf(i));
+            leaf.setChild(child);
+            leaf = child;
+        }
+
+        PropertyRoute route = PropertyRoute.of(NodeModelProperties.NODE.getNodeRetriever());
+        for (int i = 0; i < this.depth - 1; i++) {
+            route = route.append(Context.EMPTY);
+        }
+        this.context = Context.of(route);
+        this.value = leaf;
+    }
+
+    @Benchmark
+    public NodeModel get() {
+        return NodeModelProperties.NODE.get(this.root, this.context);
+    }
+
+    @Benchmark
+    public void set() {
+        NodeModelProperties.NODE.set(this.root, this.value, this.context);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return NodeModelProperties.NODE.exists(this.root, this.context);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return NodeModelProperties.NODE.contextualize(this.root);
+    }
+
+    @Benchmark
+    public long stream() {
+        return NodeModelProperties.NODE.stream(this.root).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return NodeModelProperties.NODE.occurrences(this.root);
+    }
+}
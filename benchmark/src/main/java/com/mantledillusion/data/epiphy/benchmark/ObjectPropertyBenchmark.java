@@ -0,0 +1,88 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
+import com.mantledillusion.data.epiphy.object.model.ObjectModel;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubSubType;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ModelProperty}s on plain objects, using the path depth as parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectPropertyBenchmark {
+
+    @Param({"1", "2", "3"})
+    private int depth;
+
+    private ObjectModel model;
+    private ModelProperty<ObjectModel, String> property;
+    private ModelProperty<ObjectModel, String> compiled;
+
+    @Setup
+    public void setup() {
+        this.model = new ObjectModel();
+        this.model.setModelId("model");
+        this.model.setSub(new ObjectSubType());
+        this.model.getSub().setSubId("sub");
+        this.model.getSub().setSubSub(new ObjectSubSubType());
+        this.model.getSub().getSubSub().setSubSubId("subSub");
+
+        switch (this.depth) {
+            case 1:
+                this.property = ObjectModelProperties.MODELID;
+                break;
+            case 2:
+                this.property = ObjectModelProperties.MODEL_TO_SUBID;
+                break;
+            default:
+                this.property = ObjectModelProperties.MODEL_TO_SUBSUBID;
+        }
+        this.compiled = this.property.compile();
+    }
+
+    @Benchmark
+    public String get() {
+        return this.property.get(this.model);
+    }
+
+    @Benchmark
+    public String getCompiled() {
+        return this.compiled.get(this.model);
+    }
+
+    @Benchmark
+    public void set() {
+        this.property.set(this.model, "value");
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return this.property.exists(this.model);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return this.property.contextualize(this.model);
+    }
+
+    @Benchmark
+    public long stream() {
+        return this.property.stream(this.model).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return this.property.occurrences(this.model);
+    }
+}
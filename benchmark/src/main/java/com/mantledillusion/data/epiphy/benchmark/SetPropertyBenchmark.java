@@ -0,0 +1,70 @@
+package com.mantledillusion.data.epiphy.benchmark;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
+import com.mantledillusion.data.epiphy.set.SetModelProperties;
+import com.mantledillusion.data.epiphy.set.model.SetModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link com.mantledillusion.data.epiphy.ModelPropertySet}s on a {@link java.util.Set} held by an
+ * object, using the element count as parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetPropertyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private SetModel model;
+    private Context context;
+
+    @Setup
+    public void setup() {
+        this.model = new SetModel();
+        this.model.setObjects(new HashSet<>());
+        for (int i = 0; i < this.size; i++) {
+            this.model.getObjects().add(String.valueOf(i));
+        }
+        this.context = Context.of(PropertyKey.ofSet(SetModelProperties.ELEMENT, String.valueOf(this.size / 2)));
+    }
+
+    @Benchmark
+    public Object get() {
+        return SetModelProperties.ELEMENTSET_TO_ELEMENT.get(this.model, this.context);
+    }
+
+    @Benchmark
+    public void set() {
+        SetModelProperties.ELEMENTSET_TO_ELEMENT.set(this.model, String.valueOf(this.size / 2), this.context);
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return SetModelProperties.ELEMENTSET_TO_ELEMENT.exists(this.model, this.context);
+    }
+
+    @Benchmark
+    public Collection<Context> contextualize() {
+        return SetModelProperties.ELEMENTSET_TO_ELEMENT.contextualize(this.model);
+    }
+
+    @Benchmark
+    public long stream() {
+        return SetModelProperties.ELEMENTSET_TO_ELEMENT.stream(this.model).count();
+    }
+
+    @Benchmark
+    public int occurrences() {
+        return SetModelProperties.ELEMENTSET_TO_ELEMENT.occurrences(this.model);
+    }
+}
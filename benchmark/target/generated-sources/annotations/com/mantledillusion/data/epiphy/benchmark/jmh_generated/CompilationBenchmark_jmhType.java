@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class CompilationBenchmark_jmhType extends CompilationBenchmark_jmhType_B3 {
+}
+
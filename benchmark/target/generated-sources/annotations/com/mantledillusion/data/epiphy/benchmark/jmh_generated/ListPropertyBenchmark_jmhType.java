@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class ListPropertyBenchmark_jmhType extends ListPropertyBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class MapPropertyBenchmark_jmhType extends MapPropertyBenchmark_jmhType_B3 {
+}
+
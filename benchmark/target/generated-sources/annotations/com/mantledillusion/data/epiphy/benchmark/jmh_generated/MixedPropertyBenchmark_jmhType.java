@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class MixedPropertyBenchmark_jmhType extends MixedPropertyBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class NodePropertyBenchmark_jmhType extends NodePropertyBenchmark_jmhType_B3 {
+}
+
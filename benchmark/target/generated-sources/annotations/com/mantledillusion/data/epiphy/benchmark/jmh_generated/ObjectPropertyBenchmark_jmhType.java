@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class ObjectPropertyBenchmark_jmhType extends ObjectPropertyBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package com.mantledillusion.data.epiphy.benchmark.jmh_generated;
+public class SetPropertyBenchmark_jmhType extends SetPropertyBenchmark_jmhType_B3 {
+}
+
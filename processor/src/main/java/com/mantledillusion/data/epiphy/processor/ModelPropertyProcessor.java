@@ -0,0 +1,376 @@
+package com.mantledillusion.data.epiphy.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * {@link javax.annotation.processing.Processor} generating an interface of <code>Property</code> constants for every
+ * type annotated with {@link PropertyModel}.
+ * <p>
+ * A bean property is recognized by a public getter named <code>get...()</code> (or <code>is...()</code> for
+ * <code>boolean</code>s) and becomes writable if there is a public setter named <code>set...()</code> accepting the
+ * getter's type. All <code>Property</code>s are created using method references to these accessors, so the generated
+ * interfaces are ready when initialized without involving reflection.
+ * <p>
+ * Per bean property, the generated interface contains:
+ * <ul>
+ * <li>a <code>ModelPropertyInt</code>, <code>ModelPropertyLong</code> or <code>ModelPropertyDouble</code> for
+ * <code>int</code>, <code>long</code> and <code>double</code> values, a <code>ModelPropertyList</code>,
+ * <code>ModelPropertySet</code> or <code>ModelPropertyMap</code> for {@link List}, {@link Set} and {@link Map} values
+ * and a <code>ModelProperty</code> for all other values, named after the bean property</li>
+ * <li>for {@link List}s, {@link Set}s and {@link Map}s, the <code>ModelProperty</code> of their elements suffixed by
+ * <code>_ELEMENT</code>, which is the one to reference elements by in a <code>Context</code>, and the path to the
+ * elements suffixed by <code>_TO_ELEMENT</code></li>
+ * <li>a <code>ModelPropertyNode</code> suffixed by <code>_NODE</code> for every value or element of the model type
+ * itself, together with the paths from that node to the model's properties</li>
+ * <li>the paths to all <code>Property</code>s of the generated interfaces of other {@link PropertyModel} types the
+ * value or element is of, following every type only once per path</li>
+ * </ul>
+ * The processor is registered as a service, so it is run by the compiler as soon as its artifact is on the
+ * classpath. It does not depend on the library itself; the generated sources only require the library when they are
+ * compiled.
+ */
+public class ModelPropertyProcessor extends AbstractProcessor {
+
+    private static final String PACKAGE = "com.mantledillusion.data.epiphy.";
+    private static final String PROPERTY = PACKAGE + "Property";
+    private static final String MODEL_PROPERTY = PACKAGE + "ModelProperty";
+    private static final String MODEL_PROPERTY_INT = PACKAGE + "ModelPropertyInt";
+    private static final String MODEL_PROPERTY_LONG = PACKAGE + "ModelPropertyLong";
+    private static final String MODEL_PROPERTY_DOUBLE = PACKAGE + "ModelPropertyDouble";
+    private static final String MODEL_PROPERTY_LIST = PACKAGE + "ModelPropertyList";
+    private static final String MODEL_PROPERTY_SET = PACKAGE + "ModelPropertySet";
+    private static final String MODEL_PROPERTY_MAP = PACKAGE + "ModelPropertyMap";
+    private static final String MODEL_PROPERTY_NODE = PACKAGE + "ModelPropertyNode";
+
+    private static final String SUFFIX = "Properties";
+    private static final String ELEMENT_SUFFIX = "_ELEMENT";
+    private static final String NODE_SUFFIX = "_NODE";
+    private static final String PATH_INFIX = "_TO_";
+
+    private static final class Segment {
+
+        private final String origin;
+        private final String name;
+        private final String kind;
+        private final String objectType;
+        private final String arguments;
+        private final String initializer;
+        private final TypeMirror valueType;
+
+        private Segment(String origin, String name, String kind, String arguments, String initializer,
+                        TypeMirror valueType) {
+            this(origin, name, kind, null, arguments, initializer, valueType);
+        }
+
+        private Segment(String origin, String name, String kind, String objectType, String arguments,
+                        String initializer, TypeMirror valueType) {
+            this.origin = origin;
+            this.name = name;
+            this.kind = kind;
+            this.objectType = objectType;
+            this.arguments = arguments;
+            this.initializer = initializer;
+            this.valueType = valueType;
+        }
+
+        private boolean isPathable() {
+            return this.objectType == null;
+        }
+
+        private String declare(String objectType) {
+            return this.kind + '<' + (this.objectType == null ? objectType : this.objectType) +
+                    (this.arguments.isEmpty() ? "" : ", " + this.arguments) + '>';
+        }
+    }
+
+    private static final class BeanProperty {
+
+        private final String name;
+        private final ExecutableElement getter;
+        private final ExecutableElement setter;
+
+        private BeanProperty(String name, ExecutableElement getter, ExecutableElement setter) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(PropertyModel.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(PropertyModel.class)) {
+            TypeElement model = (TypeElement) element;
+            if (model.getKind() == ElementKind.ANNOTATION_TYPE) {
+                error(model, "Cannot generate properties for an annotation type");
+            } else if (model.getModifiers().contains(Modifier.PRIVATE)) {
+                error(model, "Cannot generate properties for a private type");
+            } else if (!model.getTypeParameters().isEmpty()) {
+                error(model, "Cannot generate properties for a generic type");
+            } else {
+                try {
+                    generate(model);
+                } catch (IOException e) {
+                    error(model, "Cannot write properties of type '" + model.getQualifiedName() + "': " +
+                            e.getMessage());
+                }
+            }
+        }
+        return true;
+    }
+
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    // ###########################################################################################################
+    // ############################################## GENERATING #################################################
+    // ###########################################################################################################
+
+    private void generate(TypeElement model) throws IOException {
+        String objectType = model.getQualifiedName().toString();
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+        String interfaceName = interfaceName(model);
+
+        List<Segment> segments = segments(model);
+        List<Segment> nodePaths = new ArrayList<>();
+        for (Segment node : segments) {
+            if (node.kind.equals(MODEL_PROPERTY_NODE)) {
+                for (Segment segment : segments) {
+                    if (!segment.kind.equals(MODEL_PROPERTY_NODE) && segment.isPathable()
+                            && !segment.origin.equals(node.origin)) {
+                        nodePaths.add(new Segment(null, node.name + PATH_INFIX + segment.name, segment.kind,
+                                segment.arguments, node.name + ".append(" + segment.name + ')', null));
+                    }
+                }
+            }
+        }
+        List<Segment> paths = new ArrayList<>();
+        for (Segment segment : segments) {
+            TypeElement child = modelOf(segment.valueType);
+            if (child != null && !child.equals(model)) {
+                Set<TypeElement> visited = new HashSet<>(Arrays.asList(model, child));
+                paths(paths, segment.name, child, visited);
+            }
+        }
+
+        try (PrintWriter writer = new PrintWriter(this.processingEnv.getFiler().
+                createSourceFile(qualifiedName(packageName, interfaceName), model).openWriter())) {
+            if (!packageName.isEmpty()) {
+                writer.println("package " + packageName + ';');
+                writer.println();
+            }
+            writer.println("/**");
+            writer.println(" * {@link " + PROPERTY + "}s of {@link " + objectType + "}.");
+            writer.println(" * <p>");
+            writer.println(" * Generated by {@link " + ModelPropertyProcessor.class.getName() + "}.");
+            writer.println(" */");
+            writer.println((model.getModifiers().contains(Modifier.PUBLIC) ? "public " : "") +
+                    "interface " + interfaceName + " {");
+            for (List<Segment> group : Arrays.asList(segments, nodePaths, paths)) {
+                if (!group.isEmpty()) {
+                    writer.println();
+                    for (Segment segment : group) {
+                        writer.println("    " + segment.declare(objectType) + ' ' + segment.name + " = " +
+                                segment.initializer + ';');
+                    }
+                }
+            }
+            writer.println("}");
+        }
+    }
+
+    private void paths(List<Segment> paths, String prefix, TypeElement model, Set<TypeElement> visited) {
+        String properties = qualifiedName(this.processingEnv.getElementUtils().getPackageOf(model).
+                getQualifiedName().toString(), interfaceName(model));
+        for (Segment segment : segments(model)) {
+            if (!segment.isPathable()) {
+                continue;
+            }
+            String name = prefix + PATH_INFIX + segment.name;
+            paths.add(new Segment(null, name, segment.kind, segment.arguments,
+                    prefix + ".append(" + properties + '.' + segment.name + ')', null));
+            TypeElement child = modelOf(segment.valueType);
+            if (child != null && visited.add(child)) {
+                paths(paths, name, child, visited);
+                visited.remove(child);
+            }
+        }
+    }
+
+    // ###########################################################################################################
+    // ############################################### SEGMENTS ##################################################
+    // ###########################################################################################################
+
+    private List<Segment> segments(TypeElement model) {
+        String objectType = model.getQualifiedName().toString();
+        List<Segment> segments = new ArrayList<>();
+        List<Segment> nodes = new ArrayList<>();
+        for (BeanProperty property : properties(model)) {
+            String constant = property.name.toUpperCase(Locale.ROOT);
+            TypeMirror type = property.getter.getReturnType();
+            String accessors = '"' + property.name + "\", " + objectType + "::" + property.getter.getSimpleName() +
+                    (property.setter == null ? "" : ", " + objectType + "::" + property.setter.getSimpleName());
+
+            Segment valueSegment = null;
+            if (type.getKind() == TypeKind.INT) {
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_INT, "",
+                        MODEL_PROPERTY_INT + ".fromObject(" + accessors + ')', null));
+            } else if (type.getKind() == TypeKind.LONG) {
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_LONG, "",
+                        MODEL_PROPERTY_LONG + ".fromObject(" + accessors + ')', null));
+            } else if (type.getKind() == TypeKind.DOUBLE) {
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_DOUBLE, "",
+                        MODEL_PROPERTY_DOUBLE + ".fromObject(" + accessors + ')', null));
+            } else if (isCollection(type, List.class, 1)) {
+                TypeMirror elementType = ((DeclaredType) type).getTypeArguments().get(0);
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_LIST, elementType.toString(),
+                        MODEL_PROPERTY_LIST + ".fromObject(" + accessors + ')', null));
+                segments.add(new Segment(constant, constant + ELEMENT_SUFFIX, MODEL_PROPERTY,
+                        List.class.getName() + '<' + elementType + '>', elementType.toString(),
+                        MODEL_PROPERTY + ".<" + elementType + ">fromList(\"" +
+                                property.name + "Element\")", null));
+                valueSegment = new Segment(constant, constant + PATH_INFIX + "ELEMENT", MODEL_PROPERTY,
+                        elementType.toString(), constant + ".append(" + constant + ELEMENT_SUFFIX + ')', elementType);
+            } else if (isCollection(type, Set.class, 1)) {
+                TypeMirror elementType = ((DeclaredType) type).getTypeArguments().get(0);
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_SET, elementType.toString(),
+                        MODEL_PROPERTY_SET + ".fromObject(" + accessors + ')', null));
+                segments.add(new Segment(constant, constant + ELEMENT_SUFFIX, MODEL_PROPERTY,
+                        Set.class.getName() + '<' + elementType + '>', elementType.toString(),
+                        MODEL_PROPERTY + ".<" + elementType + ">fromSet(\"" +
+                                property.name + "Element\")", null));
+                valueSegment = new Segment(constant, constant + PATH_INFIX + "ELEMENT", MODEL_PROPERTY,
+                        elementType.toString(), constant + ".append(" + constant + ELEMENT_SUFFIX + ')', elementType);
+            } else if (isCollection(type, Map.class, 2)) {
+                TypeMirror keyType = ((DeclaredType) type).getTypeArguments().get(0);
+                TypeMirror elementType = ((DeclaredType) type).getTypeArguments().get(1);
+                segments.add(new Segment(constant, constant, MODEL_PROPERTY_MAP, keyType + ", " + elementType,
+                        MODEL_PROPERTY_MAP + ".fromObject(" + accessors + ')', null));
+                segments.add(new Segment(constant, constant + ELEMENT_SUFFIX, MODEL_PROPERTY,
+                        Map.class.getName() + '<' + keyType + ", " + elementType + '>', elementType.toString(),
+                        MODEL_PROPERTY + ".<" + keyType + ", " + elementType + ">fromMap(\"" +
+                                property.name + "Element\")", null));
+                valueSegment = new Segment(constant, constant + PATH_INFIX + "ELEMENT", MODEL_PROPERTY,
+                        elementType.toString(), constant + ".append(" + constant + ELEMENT_SUFFIX + ')', elementType);
+            } else {
+                TypeMirror valueType = type.getKind().isPrimitive() ?
+                        this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType() : type;
+                valueSegment = new Segment(constant, constant, MODEL_PROPERTY, valueType.toString(),
+                        MODEL_PROPERTY + ".fromObject(" + accessors + ')', valueType);
+            }
+
+            if (valueSegment != null) {
+                segments.add(valueSegment);
+                if (this.processingEnv.getTypeUtils().isSameType(valueSegment.valueType, model.asType())) {
+                    nodes.add(new Segment(constant, constant + NODE_SUFFIX, MODEL_PROPERTY_NODE, objectType,
+                            MODEL_PROPERTY_NODE + ".from(\"" + property.name + "Node\", " +
+                                    valueSegment.name + ')', model.asType()));
+                }
+            }
+        }
+        segments.addAll(nodes);
+        return segments;
+    }
+
+    private List<BeanProperty> properties(TypeElement model) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+        List<? extends Element> members = this.processingEnv.getElementUtils().getAllMembers(model);
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            if (!method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)
+                    || declaringType.getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                if (methodName.startsWith("get") && methodName.length() > 3) {
+                    getters.putIfAbsent(decapitalize(methodName.substring(3)), method);
+                } else if (methodName.startsWith("is") && methodName.length() > 2
+                        && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+                    getters.putIfAbsent(decapitalize(methodName.substring(2)), method);
+                }
+            } else if (method.getParameters().size() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+                setters.computeIfAbsent(decapitalize(methodName.substring(3)), name -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<BeanProperty> properties = new ArrayList<>();
+        getters.forEach((name, getter) -> {
+            ExecutableElement setter = null;
+            for (ExecutableElement candidate : setters.getOrDefault(name, Collections.emptyList())) {
+                if (this.processingEnv.getTypeUtils().isSameType(candidate.getParameters().get(0).asType(),
+                        getter.getReturnType())) {
+                    setter = candidate;
+                    break;
+                }
+            }
+            properties.add(new BeanProperty(name, getter, setter));
+        });
+        return properties;
+    }
+
+    private boolean isCollection(TypeMirror type, Class<?> collectionType, int argumentCount) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        if (!((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(collectionType.getName())
+                || declaredType.getTypeArguments().size() != argumentCount) {
+            return false;
+        }
+        for (TypeMirror argument : declaredType.getTypeArguments()) {
+            if (argument.getKind() != TypeKind.DECLARED && argument.getKind() != TypeKind.ARRAY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TypeElement modelOf(TypeMirror type) {
+        if (type == null || type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getAnnotation(PropertyModel.class) != null && element.getTypeParameters().isEmpty()
+                && !element.getModifiers().contains(Modifier.PRIVATE) ? element : null;
+    }
+
+    private static String interfaceName(TypeElement model) {
+        String name = model.getAnnotation(PropertyModel.class).value();
+        return name.isEmpty() ? model.getSimpleName() + SUFFIX : name;
+    }
+
+    private static String qualifiedName(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.mantledillusion.data.epiphy.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model type to generate an interface of <code>Property</code> constants for, using the
+ * {@link ModelPropertyProcessor}.
+ * <p>
+ * The interface is generated into the model type's package and contains a <code>Property</code> for every bean
+ * property of the model type, element <code>Property</code>s for its {@link java.util.List}, {@link java.util.Set}
+ * and {@link java.util.Map} properties, <code>ModelPropertyNode</code>s for properties that lead back to the model
+ * type and precomposed paths into all other {@link PropertyModel} types the model type refers to.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface PropertyModel {
+
+    /**
+     * The simple name of the interface to generate.
+     *
+     * @return The name, the model type's simple name suffixed by 'Properties' if empty
+     */
+    String value() default "";
+}
@@ -0,0 +1,32 @@
+package com.mantledillusion.data.epiphy.processor;
+
+import com.mantledillusion.data.epiphy.processor.model.ProcessorModel;
+import com.mantledillusion.data.epiphy.processor.model.ProcessorSubType;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public abstract class AbstractProcessorModelPropertyTest {
+
+	protected ProcessorModel model;
+	protected ProcessorModel child;
+
+	@BeforeEach
+	public void before() {
+		model = new ProcessorModel();
+		model.setModelId("model");
+		model.setCount(2);
+		model.setSubMap(new HashMap<>());
+		model.setChildren(new ArrayList<>());
+
+		ProcessorSubType sub = new ProcessorSubType();
+		sub.setSubId("sub");
+		model.setSub(sub);
+
+		child = new ProcessorModel();
+		child.setModelId("child");
+		child.setChildren(new ArrayList<>());
+		model.getChildren().add(child);
+	}
+}
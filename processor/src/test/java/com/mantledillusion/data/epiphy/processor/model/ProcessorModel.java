@@ -0,0 +1,56 @@
+package com.mantledillusion.data.epiphy.processor.model;
+
+import com.mantledillusion.data.epiphy.processor.PropertyModel;
+
+import java.util.List;
+import java.util.Map;
+
+@PropertyModel
+public final class ProcessorModel {
+
+	private String modelId;
+	private int count;
+	private ProcessorSubType sub;
+	private Map<String, ProcessorSubType> subMap;
+	private List<ProcessorModel> children;
+
+	public String getModelId() {
+		return modelId;
+	}
+
+	public void setModelId(String modelId) {
+		this.modelId = modelId;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public void setCount(int count) {
+		this.count = count;
+	}
+
+	public ProcessorSubType getSub() {
+		return sub;
+	}
+
+	public void setSub(ProcessorSubType sub) {
+		this.sub = sub;
+	}
+
+	public Map<String, ProcessorSubType> getSubMap() {
+		return subMap;
+	}
+
+	public void setSubMap(Map<String, ProcessorSubType> subMap) {
+		this.subMap = subMap;
+	}
+
+	public List<ProcessorModel> getChildren() {
+		return children;
+	}
+
+	public void setChildren(List<ProcessorModel> children) {
+		this.children = children;
+	}
+}
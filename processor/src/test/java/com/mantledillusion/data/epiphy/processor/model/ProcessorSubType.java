@@ -0,0 +1,31 @@
+package com.mantledillusion.data.epiphy.processor.model;
+
+import com.mantledillusion.data.epiphy.processor.PropertyModel;
+
+@PropertyModel("ProcessorSubProperties")
+public final class ProcessorSubType {
+
+	private String subId;
+	private boolean active;
+	private ProcessorModel owner;
+
+	public String getSubId() {
+		return subId;
+	}
+
+	public void setSubId(String subId) {
+		this.subId = subId;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public ProcessorModel getOwner() {
+		return owner;
+	}
+}
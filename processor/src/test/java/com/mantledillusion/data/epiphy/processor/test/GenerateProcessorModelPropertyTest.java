@@ -0,0 +1,62 @@
+package com.mantledillusion.data.epiphy.processor.test;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
+import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
+import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
+import com.mantledillusion.data.epiphy.processor.AbstractProcessorModelPropertyTest;
+import com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties;
+import com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties;
+import com.mantledillusion.data.epiphy.processor.model.ProcessorSubType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerateProcessorModelPropertyTest extends AbstractProcessorModelPropertyTest {
+
+	@Test
+	public void testGenerateProperties() {
+		assertEquals("model", ProcessorModelProperties.MODELID.get(this.model));
+		assertEquals(2, ProcessorModelProperties.COUNT.getAsInt(this.model));
+		ProcessorModelProperties.COUNT.setAsInt(this.model, 3);
+		assertEquals(3, this.model.getCount());
+		assertTrue(ProcessorModelProperties.CHILDREN.isWritable());
+	}
+
+	@Test
+	public void testGenerateReadonly() {
+		assertFalse(ProcessorSubProperties.OWNER.isWritable());
+		assertThrows(ReadonlyPropertyException.class, () -> {
+			ProcessorSubProperties.OWNER.set(this.model.getSub(), this.model);
+		});
+	}
+
+	@Test
+	public void testGeneratePaths() {
+		ProcessorModelProperties.SUB_TO_ACTIVE.set(this.model, true);
+		assertTrue(this.model.getSub().isActive());
+		assertEquals("sub", ProcessorModelProperties.SUB_TO_SUBID.get(this.model));
+
+		ProcessorSubType mapped = new ProcessorSubType();
+		mapped.setSubId("mapped");
+		ProcessorModelProperties.SUBMAP.insert(this.model, mapped, "key");
+		Context context = Context.of(PropertyKey.ofMap(ProcessorModelProperties.SUBMAP_ELEMENT, "key"));
+		assertEquals("mapped", ProcessorModelProperties.SUBMAP_TO_ELEMENT_TO_SUBID.get(this.model, context));
+	}
+
+	@Test
+	public void testGenerateNode() {
+		assertEquals("model", ProcessorModelProperties.CHILDREN_NODE_TO_MODELID.get(this.model));
+		Context context = Context.of(PropertyRoute.of(ProcessorModelProperties.CHILDREN_NODE.getNodeRetriever(),
+				Context.of(PropertyIndex.of(ProcessorModelProperties.CHILDREN_ELEMENT, 0))));
+		assertEquals("child", ProcessorModelProperties.CHILDREN_NODE_TO_MODELID.get(this.model, context));
+	}
+
+	@Test
+	public void testGenerateCyclicPaths() {
+		ProcessorSubType owned = new ProcessorSubType();
+		assertNull(ProcessorSubProperties.OWNER_TO_MODELID.get(owned, null, true));
+		assertNotNull(ProcessorModelProperties.SUB_TO_OWNER);
+	}
+}
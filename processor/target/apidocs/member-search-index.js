@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"com.mantledillusion.data.epiphy.processor","c":"ModelPropertyProcessor","l":"getSupportedAnnotationTypes()"},{"p":"com.mantledillusion.data.epiphy.processor","c":"ModelPropertyProcessor","l":"getSupportedSourceVersion()"},{"p":"com.mantledillusion.data.epiphy.processor","c":"ModelPropertyProcessor","l":"ModelPropertyProcessor()","u":"%3Cinit%3E()"},{"p":"com.mantledillusion.data.epiphy.processor","c":"ModelPropertyProcessor","l":"process(Set<? extends TypeElement>, RoundEnvironment)","u":"process(java.util.Set,javax.annotation.processing.RoundEnvironment)"},{"p":"com.mantledillusion.data.epiphy.processor","c":"PropertyModel","l":"value()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"com.mantledillusion.data.epiphy.processor","l":"ModelPropertyProcessor"},{"p":"com.mantledillusion.data.epiphy.processor","l":"PropertyModel"}];updateSearchResults();
\ No newline at end of file
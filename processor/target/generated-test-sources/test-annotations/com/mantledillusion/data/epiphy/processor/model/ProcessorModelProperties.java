@@ -0,0 +1,33 @@
+package com.mantledillusion.data.epiphy.processor.model;
+
+/**
+ * {@link com.mantledillusion.data.epiphy.Property}s of {@link com.mantledillusion.data.epiphy.processor.model.ProcessorModel}.
+ * <p>
+ * Generated by {@link com.mantledillusion.data.epiphy.processor.ModelPropertyProcessor}.
+ */
+public interface ProcessorModelProperties {
+
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String> MODELID = com.mantledillusion.data.epiphy.ModelProperty.fromObject("modelId", com.mantledillusion.data.epiphy.processor.model.ProcessorModel::getModelId, com.mantledillusion.data.epiphy.processor.model.ProcessorModel::setModelId);
+    com.mantledillusion.data.epiphy.ModelPropertyInt<com.mantledillusion.data.epiphy.processor.model.ProcessorModel> COUNT = com.mantledillusion.data.epiphy.ModelPropertyInt.fromObject("count", com.mantledillusion.data.epiphy.processor.model.ProcessorModel::getCount, com.mantledillusion.data.epiphy.processor.model.ProcessorModel::setCount);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> SUB = com.mantledillusion.data.epiphy.ModelProperty.fromObject("sub", com.mantledillusion.data.epiphy.processor.model.ProcessorModel::getSub, com.mantledillusion.data.epiphy.processor.model.ProcessorModel::setSub);
+    com.mantledillusion.data.epiphy.ModelPropertyMap<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> SUBMAP = com.mantledillusion.data.epiphy.ModelPropertyMap.fromObject("subMap", com.mantledillusion.data.epiphy.processor.model.ProcessorModel::getSubMap, com.mantledillusion.data.epiphy.processor.model.ProcessorModel::setSubMap);
+    com.mantledillusion.data.epiphy.ModelProperty<java.util.Map<java.lang.String, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType>, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> SUBMAP_ELEMENT = com.mantledillusion.data.epiphy.ModelProperty.<java.lang.String, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType>fromMap("subMapElement");
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> SUBMAP_TO_ELEMENT = SUBMAP.append(SUBMAP_ELEMENT);
+    com.mantledillusion.data.epiphy.ModelPropertyList<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> CHILDREN = com.mantledillusion.data.epiphy.ModelPropertyList.fromObject("children", com.mantledillusion.data.epiphy.processor.model.ProcessorModel::getChildren, com.mantledillusion.data.epiphy.processor.model.ProcessorModel::setChildren);
+    com.mantledillusion.data.epiphy.ModelProperty<java.util.List<com.mantledillusion.data.epiphy.processor.model.ProcessorModel>, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> CHILDREN_ELEMENT = com.mantledillusion.data.epiphy.ModelProperty.<com.mantledillusion.data.epiphy.processor.model.ProcessorModel>fromList("childrenElement");
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> CHILDREN_TO_ELEMENT = CHILDREN.append(CHILDREN_ELEMENT);
+    com.mantledillusion.data.epiphy.ModelPropertyNode<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> CHILDREN_NODE = com.mantledillusion.data.epiphy.ModelPropertyNode.from("childrenNode", CHILDREN_TO_ELEMENT);
+
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String> CHILDREN_NODE_TO_MODELID = CHILDREN_NODE.append(MODELID);
+    com.mantledillusion.data.epiphy.ModelPropertyInt<com.mantledillusion.data.epiphy.processor.model.ProcessorModel> CHILDREN_NODE_TO_COUNT = CHILDREN_NODE.append(COUNT);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> CHILDREN_NODE_TO_SUB = CHILDREN_NODE.append(SUB);
+    com.mantledillusion.data.epiphy.ModelPropertyMap<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> CHILDREN_NODE_TO_SUBMAP = CHILDREN_NODE.append(SUBMAP);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> CHILDREN_NODE_TO_SUBMAP_TO_ELEMENT = CHILDREN_NODE.append(SUBMAP_TO_ELEMENT);
+
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String> SUB_TO_SUBID = SUB.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.SUBID);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.Boolean> SUB_TO_ACTIVE = SUB.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.ACTIVE);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> SUB_TO_OWNER = SUB.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.OWNER);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.String> SUBMAP_TO_ELEMENT_TO_SUBID = SUBMAP_TO_ELEMENT.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.SUBID);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, java.lang.Boolean> SUBMAP_TO_ELEMENT_TO_ACTIVE = SUBMAP_TO_ELEMENT.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.ACTIVE);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorModel, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> SUBMAP_TO_ELEMENT_TO_OWNER = SUBMAP_TO_ELEMENT.append(com.mantledillusion.data.epiphy.processor.model.ProcessorSubProperties.OWNER);
+}
@@ -0,0 +1,22 @@
+package com.mantledillusion.data.epiphy.processor.model;
+
+/**
+ * {@link com.mantledillusion.data.epiphy.Property}s of {@link com.mantledillusion.data.epiphy.processor.model.ProcessorSubType}.
+ * <p>
+ * Generated by {@link com.mantledillusion.data.epiphy.processor.ModelPropertyProcessor}.
+ */
+public interface ProcessorSubProperties {
+
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, java.lang.String> SUBID = com.mantledillusion.data.epiphy.ModelProperty.fromObject("subId", com.mantledillusion.data.epiphy.processor.model.ProcessorSubType::getSubId, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType::setSubId);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, java.lang.Boolean> ACTIVE = com.mantledillusion.data.epiphy.ModelProperty.fromObject("active", com.mantledillusion.data.epiphy.processor.model.ProcessorSubType::isActive, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType::setActive);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> OWNER = com.mantledillusion.data.epiphy.ModelProperty.fromObject("owner", com.mantledillusion.data.epiphy.processor.model.ProcessorSubType::getOwner);
+
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, java.lang.String> OWNER_TO_MODELID = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.MODELID);
+    com.mantledillusion.data.epiphy.ModelPropertyInt<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> OWNER_TO_COUNT = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.COUNT);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> OWNER_TO_SUB = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.SUB);
+    com.mantledillusion.data.epiphy.ModelPropertyMap<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, java.lang.String, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> OWNER_TO_SUBMAP = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.SUBMAP);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorSubType> OWNER_TO_SUBMAP_TO_ELEMENT = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.SUBMAP_TO_ELEMENT);
+    com.mantledillusion.data.epiphy.ModelPropertyList<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> OWNER_TO_CHILDREN = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.CHILDREN);
+    com.mantledillusion.data.epiphy.ModelProperty<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> OWNER_TO_CHILDREN_TO_ELEMENT = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.CHILDREN_TO_ELEMENT);
+    com.mantledillusion.data.epiphy.ModelPropertyNode<com.mantledillusion.data.epiphy.processor.model.ProcessorSubType, com.mantledillusion.data.epiphy.processor.model.ProcessorModel> OWNER_TO_CHILDREN_NODE = OWNER.append(com.mantledillusion.data.epiphy.processor.model.ProcessorModelProperties.CHILDREN_NODE);
+}
@@ -1,12 +1,25 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.ValueIndex;
+import com.mantledillusion.data.epiphy.context.io.CompiledReferencedGetter;
+import com.mantledillusion.data.epiphy.context.io.CompiledReferencedSetter;
+import com.mantledillusion.data.epiphy.context.io.MethodHandleReferencedGetter;
 import com.mantledillusion.data.epiphy.context.io.ReferencedGetter;
 import com.mantledillusion.data.epiphy.context.io.ReferencedSetter;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 abstract class AbstractModelProperty<O, V> implements Property<O, V> {
 
@@ -14,6 +27,8 @@ abstract class AbstractModelProperty<O, V> implements Property<O, V> {
     private final ReferencedGetter<O, V> getter;
     private final ReferencedSetter<O, V> setter;
 
+    private volatile ValueIndex<O, V> valueIndex;
+
     AbstractModelProperty(String id, ReferencedGetter<O, V> getter, ReferencedSetter<O, V> setter) {
         this.id = id == null ? String.valueOf(System.identityHashCode(this)) : id;
         this.getter = getter;
@@ -52,6 +67,11 @@ abstract class AbstractModelProperty<O, V> implements Property<O, V> {
         return this.getter.get(this, instance, Context.defaultIfNull(context), allowNull);
     }
 
+    @Override
+    public Resolution<V> tryGet(O instance, Context context, boolean allowNull) {
+        return this.getter.tryGet(this, instance, Context.defaultIfNull(context), allowNull);
+    }
+
     // ###########################################################################################################
     // ################################################ SETTING ##################################################
     // ###########################################################################################################
@@ -62,7 +82,56 @@ abstract class AbstractModelProperty<O, V> implements Property<O, V> {
 
     @Override
     public void set(O instance, V value, Context context) {
-        this.setter.set(this, instance, value, Context.defaultIfNull(context));
+        Context valueContext = Context.defaultIfNull(context);
+        ValueIndex<O, V> index = this.valueIndex;
+        if (index != null && index.getRoot() == instance && index.isBuilt()) {
+            V oldValue = this.getter.get(this, instance, valueContext, false);
+            this.setter.set(this, instance, value, valueContext);
+            index.update(valueContext, oldValue, value);
+        } else {
+            this.setter.set(this, instance, value, valueContext);
+        }
+    }
+
+    @Override
+    public void setAll(O instance, Context context, ExecutionPolicy executionPolicy, Function<? super V, ? extends V> function) {
+        if (executionPolicy == null) {
+            throw new IllegalArgumentException("Cannot set values using a null execution policy");
+        } else if (function == null) {
+            throw new IllegalArgumentException("Cannot set values using a null function");
+        } else if (!this.setter.isWritable()) {
+            throw new ReadonlyPropertyException(this);
+        }
+        this.setter.setAll(this, instance, Context.defaultIfNull(context), executionPolicy, function);
+        ValueIndex<O, V> index = this.valueIndex;
+        if (index != null && index.getRoot() == instance) {
+            index.clear();
+        }
+    }
+
+    // ###########################################################################################################
+    // ################################################ PATHING ##################################################
+    // ###########################################################################################################
+
+    protected ReferencedGetter<O, V> getCompiledGetter(CompilationMode compilationMode) {
+        if (compilationMode == null) {
+            throw new IllegalArgumentException("Cannot compile without specifying the compilation mode");
+        }
+        switch (compilationMode) {
+            case METHOD_HANDLES:
+                return MethodHandleReferencedGetter.from(this, this.getter, AbstractModelProperty::resolveGetter);
+            case STEPS:
+            default:
+                return CompiledReferencedGetter.from(this, this.getter, AbstractModelProperty::resolveGetter);
+        }
+    }
+
+    protected ReferencedSetter<O, V> getCompiledSetter() {
+        return CompiledReferencedSetter.from(this, this.setter, AbstractModelProperty::resolveGetter);
+    }
+
+    static ReferencedGetter<?, ?> resolveGetter(Property<?, ?> property) {
+        return property instanceof AbstractModelProperty ? ((AbstractModelProperty<?, ?>) property).getGetter() : null;
     }
 
     // ###########################################################################################################
@@ -82,9 +151,74 @@ abstract class AbstractModelProperty<O, V> implements Property<O, V> {
         return this.getter.contextualize(this, object, Context.defaultIfNull(context), traversingMode, includeNull);
     }
 
+    @Override
+    public Spliterator<Context> spliterate(O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        if (traversingMode == null) {
+            throw new IllegalArgumentException("Cannot contextualize without specifying the traversing mode");
+        }
+        return this.getter.spliterate(this, object, Context.defaultIfNull(context), traversingMode, includeNull);
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, V>> traverse(O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        if (traversingMode == null) {
+            throw new IllegalArgumentException("Cannot traverse without specifying the traversing mode");
+        }
+        return this.getter.traverse(this, object, Context.defaultIfNull(context), traversingMode, includeNull);
+    }
+
+    @Override
+    public Spliterator<V> values(O object, Context context, TraversingMode traversingMode) {
+        if (traversingMode == null) {
+            throw new IllegalArgumentException("Cannot retrieve values without specifying the traversing mode");
+        }
+        return this.getter.values(this, object, Context.defaultIfNull(context), traversingMode);
+    }
+
+    @Override
+    public void extract(O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Cannot extract values to a null consumer");
+        }
+        this.getter.extract(this, object, Context.defaultIfNull(context), consumer);
+    }
+
     @Override
     public Collection<Context> contextualize(O object, V value, Context context) {
-        return this.getter.contextualize(this, object, value, Context.defaultIfNull(context));
+        Context baseContext = Context.defaultIfNull(context);
+        ValueIndex<O, V> index = this.valueIndex;
+        if (index != null && index.getRoot() == object && baseContext.size() == 0) {
+            Collection<Context> contexts = index.lookup(value);
+            while (contexts == null) {
+                index.build(this.getter.traverse(this, object, baseContext, TraversingMode.RECURSIVE, true));
+                contexts = index.lookup(value);
+            }
+            return contexts;
+        }
+        return this.getter.contextualize(this, object, value, baseContext);
+    }
+
+    /**
+     * Returns the {@link ValueIndex} this {@link Property} uses to look up the {@link Context}s of values.
+     *
+     * @return The {@link ValueIndex}, might be null if there is none
+     */
+    public ValueIndex<O, V> getValueIndex() {
+        return this.valueIndex;
+    }
+
+    /**
+     * Sets the {@link ValueIndex} this {@link Property} uses to look up the {@link Context}s of values.
+     * <p>
+     * When set, {@link #contextualize(Object, Object, Context)} on the index's root object without a base
+     * {@link Context} is answered by the index instead of searching the root object, and every value written to the
+     * root object using {@link #set(Object, Object, Context)} of this {@link Property} instance updates the index.
+     *
+     * @param valueIndex
+     *          The {@link ValueIndex} to use; might be null to search the object upon every lookup.
+     */
+    public void setValueIndex(ValueIndex<O, V> valueIndex) {
+        this.valueIndex = valueIndex;
     }
 
     @Override
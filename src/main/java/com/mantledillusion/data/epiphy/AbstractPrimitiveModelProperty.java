@@ -0,0 +1,180 @@
+package com.mantledillusion.data.epiphy;
+
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.io.ReferencedGetter;
+import com.mantledillusion.data.epiphy.context.io.ReferencedSetter;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base type for {@link Property}s whose primitive value resides in an object.
+ * <p>
+ * The path from the root object to the object the primitive value resides in is resolved the same way for every
+ * primitive type, so it is held here; the implementations only read, write and stream the primitive value itself from
+ * the object resolved.
+ *
+ * @param <O>
+ *          The parent object type of this {@link Property}.
+ * @param <V>
+ *          The boxed type of the primitive value of this {@link Property}.
+ */
+abstract class AbstractPrimitiveModelProperty<O, V> extends AbstractModelProperty<O, V> {
+
+    interface LeafPath<O> {
+
+        Object resolve(O object, Context context);
+
+        Stream<Object> stream(O object, Context context);
+
+        void extract(O object, Context context, BiConsumer<PropertyReference<?, ?>, Object> consumer);
+
+        LeafPath<O> compile(CompilationMode compilationMode);
+    }
+
+    private static final class ObjectLeafPath<O> implements LeafPath<O> {
+
+        private final Property<?, ?> property;
+
+        private ObjectLeafPath(Property<?, ?> property) {
+            this.property = property;
+        }
+
+        @Override
+        public Object resolve(O object, Context context) {
+            if (object == null) {
+                throw PropertyPathExceptions.interrupted(this.property);
+            }
+            return object;
+        }
+
+        @Override
+        public Stream<Object> stream(O object, Context context) {
+            return object == null ? Stream.empty() : Stream.of(object);
+        }
+
+        @Override
+        public void extract(O object, Context context, BiConsumer<PropertyReference<?, ?>, Object> consumer) {
+            if (object != null) {
+                consumer.accept(null, object);
+            }
+        }
+
+        @Override
+        public LeafPath<O> compile(CompilationMode compilationMode) {
+            return this;
+        }
+    }
+
+    private static final class PathLeafPath<S, O> implements LeafPath<S> {
+
+        private final Property<S, O> parent;
+        private final LeafPath<O> child;
+
+        private PathLeafPath(Property<S, O> parent, LeafPath<O> child) {
+            this.parent = parent;
+            this.child = child;
+        }
+
+        @Override
+        public Object resolve(S object, Context context) {
+            return this.child.resolve(this.parent.get(object, context, false), context);
+        }
+
+        @Override
+        public Stream<Object> stream(S object, Context context) {
+            return StreamSupport.stream(this.parent.values(object, context, TraversingMode.RECURSIVE), false).
+                    flatMap(value -> this.child.stream(value, context));
+        }
+
+        @Override
+        public void extract(S object, Context context, BiConsumer<PropertyReference<?, ?>, Object> consumer) {
+            this.parent.extract(object, context, (parentReference, parentValue) ->
+                    this.child.extract(parentValue, context, (reference, value) ->
+                            consumer.accept(reference != null ? reference : parentReference, value)));
+        }
+
+        @Override
+        public LeafPath<S> compile(CompilationMode compilationMode) {
+            return new PathLeafPath<>(this.parent.compile(compilationMode), this.child.compile(compilationMode));
+        }
+    }
+
+    private static final class ObfuscatedLeafPath<S, O> implements LeafPath<S> {
+
+        private final Class<O> objectType;
+        private final LeafPath<O> delegate;
+
+        private ObfuscatedLeafPath(Class<O> objectType, LeafPath<O> delegate) {
+            this.objectType = objectType;
+            this.delegate = delegate;
+        }
+
+        private O cast(S object) {
+            return this.objectType.isInstance(object) ? this.objectType.cast(object) : null;
+        }
+
+        @Override
+        public Object resolve(S object, Context context) {
+            return this.delegate.resolve(cast(object), context);
+        }
+
+        @Override
+        public Stream<Object> stream(S object, Context context) {
+            return this.delegate.stream(cast(object), context);
+        }
+
+        @Override
+        public void extract(S object, Context context, BiConsumer<PropertyReference<?, ?>, Object> consumer) {
+            this.delegate.extract(cast(object), context, consumer);
+        }
+
+        @Override
+        public LeafPath<S> compile(CompilationMode compilationMode) {
+            return new ObfuscatedLeafPath<>(this.objectType, this.delegate.compile(compilationMode));
+        }
+    }
+
+    private final LeafPath<O> leafPath;
+
+    AbstractPrimitiveModelProperty(String id, ReferencedGetter<O, V> getter, ReferencedSetter<O, V> setter) {
+        super(id, getter, setter);
+        this.leafPath = new ObjectLeafPath<>(this);
+    }
+
+    AbstractPrimitiveModelProperty(String id, ReferencedGetter<O, V> getter, ReferencedSetter<O, V> setter,
+                                   LeafPath<O> leafPath) {
+        super(id, getter, setter);
+        this.leafPath = leafPath;
+    }
+
+    Object resolveLeaf(O object, Context context) {
+        return this.leafPath.resolve(object, Context.defaultIfNull(context));
+    }
+
+    Stream<Object> streamLeaves(O object, Context context, boolean parallel) {
+        Stream<Object> leaves = this.leafPath.stream(object, Context.defaultIfNull(context));
+        return parallel ? leaves.parallel() : leaves;
+    }
+
+    void extractLeaves(O object, Context context, BiConsumer<PropertyReference<?, ?>, Object> consumer) {
+        this.leafPath.extract(object, Context.defaultIfNull(context), consumer);
+    }
+
+    <S> LeafPath<S> obfuscateLeafPath(Class<O> objectType) {
+        return new ObfuscatedLeafPath<>(objectType, this.leafPath);
+    }
+
+    <S> LeafPath<S> prependLeafPath(Property<S, O> parent) {
+        return new PathLeafPath<>(parent, this.leafPath);
+    }
+
+    LeafPath<O> compileLeafPath(CompilationMode compilationMode) {
+        return this.leafPath.compile(compilationMode);
+    }
+}
@@ -1,5 +1,6 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.io.*;
 import com.mantledillusion.data.epiphy.context.io.ReferencedGetter;
 import com.mantledillusion.data.epiphy.context.io.ReferencedSetter;
@@ -40,6 +41,16 @@ public class ModelProperty<O, V> extends AbstractModelProperty<O, V> {
                 PathReferencedSetter.from(parent, this, getSetter()));
     }
 
+    @Override
+    public ModelProperty<O, V> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelProperty<O, V> compile(CompilationMode compilationMode) {
+        return new ModelProperty<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter());
+    }
+
     // ###########################################################################################################
     // ################################################ FACTORY ##################################################
     // ###########################################################################################################
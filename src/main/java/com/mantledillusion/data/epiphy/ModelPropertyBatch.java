@@ -0,0 +1,202 @@
+package com.mantledillusion.data.epiphy;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.io.BatchReferencedGetter;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Represents a batch of {@link Property}s whose values are retrieved from the same objects together.
+ * <p>
+ * The paths of all {@link Property}s are compiled into a single tree of segments, so segments shared by multiple
+ * {@link Property}s (for example a common parent {@link Property} they have been appended to) are only evaluated
+ * once per object. Retrieving a batch's values from an object equals retrieving every {@link Property}'s value using
+ * {@link Property#get(Object, Context, boolean)}.
+ * <p>
+ * Instantiable using the <code>of()</code> methods.
+ *
+ * @param <O>
+ *          The object type of the batched {@link Property}s.
+ */
+public final class ModelPropertyBatch<O> {
+
+    private final List<Property<O, ?>> properties;
+    private final BatchReferencedGetter<O> getter;
+
+    private ModelPropertyBatch(List<Property<O, ?>> properties) {
+        this.properties = Collections.unmodifiableList(properties);
+        this.getter = BatchReferencedGetter.from(properties, AbstractModelProperty::resolveGetter);
+    }
+
+    /**
+     * Returns the batched {@link Property}s in the order their values are retrieved in.
+     *
+     * @return An unmodifiable {@link List} of the {@link Property}s, never null or empty
+     */
+    public List<Property<O, ?>> getProperties() {
+        return this.properties;
+    }
+
+    /**
+     * Returns the amount of distinct path segments evaluated per object.
+     *
+     * @return The segment count, always &gt;0
+     */
+    public int getSegmentCount() {
+        return this.getter.getSegmentCount();
+    }
+
+    // ###########################################################################################################
+    // ################################################ GETTING ##################################################
+    // ###########################################################################################################
+
+    /**
+     * Retrieves the values of all batched {@link Property}s from the given object.
+     *
+     * @param object
+     *          The object to retrieve the values from; might be null.
+     * @return A new array of the values in the order of {@link #getProperties()}, never null
+     * @throws InterruptedPropertyPathException
+     *          If any of the paths is interrupted by a null value.
+     * @throws UnreferencedPropertyPathException
+     *          If any of the paths requires a reference.
+     */
+    public Object[] get(O object) throws InterruptedPropertyPathException, UnreferencedPropertyPathException {
+        return get(object, null, false);
+    }
+
+    /**
+     * Retrieves the values of all batched {@link Property}s from the given object.
+     *
+     * @param object
+     *          The object to retrieve the values from; might be null.
+     * @param context
+     *          The {@link Context} to retrieve the values with; might be null.
+     * @return A new array of the values in the order of {@link #getProperties()}, never null
+     * @throws InterruptedPropertyPathException
+     *          If any of the paths is interrupted by a null value.
+     * @throws UnreferencedPropertyPathException
+     *          If any of the paths requires a reference the given {@link Context} does not provide.
+     * @throws OutboundPropertyPathException
+     *          If any reference of the given {@link Context} does not match its object's bounds.
+     */
+    public Object[] get(O object, Context context) throws InterruptedPropertyPathException,
+            UnreferencedPropertyPathException, OutboundPropertyPathException {
+        return get(object, context, false);
+    }
+
+    /**
+     * Retrieves the values of all batched {@link Property}s from the given object.
+     *
+     * @param object
+     *          The object to retrieve the values from; might be null.
+     * @param context
+     *          The {@link Context} to retrieve the values with; might be null.
+     * @param allowNull
+     *          Whether to allow the paths to be interrupted by null values, in which case the values of the
+     *          interrupted {@link Property}s are null.
+     * @return A new array of the values in the order of {@link #getProperties()}, never null
+     * @throws InterruptedPropertyPathException
+     *          If any of the paths is interrupted by a null value and null values are not allowed.
+     * @throws UnreferencedPropertyPathException
+     *          If any of the paths requires a reference the given {@link Context} does not provide.
+     * @throws OutboundPropertyPathException
+     *          If any reference of the given {@link Context} does not match its object's bounds.
+     */
+    public Object[] get(O object, Context context, boolean allowNull) throws InterruptedPropertyPathException,
+            UnreferencedPropertyPathException, OutboundPropertyPathException {
+        return this.getter.get(object, Context.defaultIfNull(context), allowNull);
+    }
+
+    // ###########################################################################################################
+    // ############################################### STREAMING #################################################
+    // ###########################################################################################################
+
+    /**
+     * Lazily retrieves the values of all batched {@link Property}s from each of the given objects.
+     *
+     * @param objects
+     *          The objects to retrieve the values from; might <b>not</b> be null.
+     * @return A new {@link Stream} of value arrays, one for every object, never null
+     */
+    public Stream<Object[]> stream(Stream<O> objects) {
+        return stream(objects, null, false);
+    }
+
+    /**
+     * Lazily retrieves the values of all batched {@link Property}s from each of the given objects.
+     *
+     * @param objects
+     *          The objects to retrieve the values from; might <b>not</b> be null.
+     * @param context
+     *          The {@link Context} to retrieve the values with; might be null.
+     * @return A new {@link Stream} of value arrays, one for every object, never null
+     */
+    public Stream<Object[]> stream(Stream<O> objects, Context context) {
+        return stream(objects, context, false);
+    }
+
+    /**
+     * Lazily retrieves the values of all batched {@link Property}s from each of the given objects.
+     *
+     * @param objects
+     *          The objects to retrieve the values from; might <b>not</b> be null.
+     * @param context
+     *          The {@link Context} to retrieve the values with; might be null.
+     * @param allowNull
+     *          Whether to allow the paths to be interrupted by null values, in which case the values of the
+     *          interrupted {@link Property}s are null.
+     * @return A new {@link Stream} of value arrays, one for every object, never null
+     */
+    public Stream<Object[]> stream(Stream<O> objects, Context context, boolean allowNull) {
+        if (objects == null) {
+            throw new IllegalArgumentException("Cannot retrieve values from a null stream of objects");
+        }
+        Context batchContext = Context.defaultIfNull(context);
+        return objects.map(object -> this.getter.get(object, batchContext, allowNull));
+    }
+
+    // ###########################################################################################################
+    // ################################################ FACTORY ##################################################
+    // ###########################################################################################################
+
+    /**
+     * Factory method for a batch of the given {@link Property}s.
+     *
+     * @param <O>
+     *          The object type of the batched {@link Property}s.
+     * @param properties
+     *          The {@link Property}s to batch; might <b>not</b> be null or empty, might <b>not</b> contain nulls.
+     * @return A new instance, never null
+     */
+    @SafeVarargs
+    public static <O> ModelPropertyBatch<O> of(Property<O, ?>... properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException("Cannot batch a null array of properties");
+        }
+        return of(Arrays.asList(properties));
+    }
+
+    /**
+     * Factory method for a batch of the given {@link Property}s.
+     *
+     * @param <O>
+     *          The object type of the batched {@link Property}s.
+     * @param properties
+     *          The {@link Property}s to batch; might <b>not</b> be null or empty, might <b>not</b> contain nulls.
+     * @return A new instance, never null
+     */
+    public static <O> ModelPropertyBatch<O> of(List<? extends Property<O, ?>> properties) {
+        if (properties == null) {
+            throw new IllegalArgumentException("Cannot batch a null list of properties");
+        }
+        return new ModelPropertyBatch<>(new ArrayList<>(properties));
+    }
+}
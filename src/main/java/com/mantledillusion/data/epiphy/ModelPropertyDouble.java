@@ -0,0 +1,446 @@
+package com.mantledillusion.data.epiphy;
+
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.column.DoubleColumn;
+import com.mantledillusion.data.epiphy.context.io.*;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
+import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+
+import java.util.OptionalDouble;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+
+/**
+ * Represents a simple {@link Property} where a primitive {@code double} value resides in an object.
+ * <p>
+ * Besides being usable as a {@link Property} of {@link Double}, this {@link Property} is able to read, write and stream
+ * its values without boxing them; also when prepended with parent {@link Property}s, since the leaf of the path keeps
+ * being accessed using its primitive {@link ToDoubleFunction}/{@link ObjDoubleConsumer}.
+ * <p>
+ * Instantiable using the <code>from...()</code> methods.
+ *
+ * @param <O>
+ *          The parent object type of this {@link Property}.
+ */
+public class ModelPropertyDouble<O> extends AbstractPrimitiveModelProperty<O, Double> {
+
+    private final ToDoubleFunction<Object> getter;
+    private final ObjDoubleConsumer<Object> setter;
+
+    @SuppressWarnings("unchecked")
+    private ModelPropertyDouble(String id, ToDoubleFunction<O> getter, ObjDoubleConsumer<O> setter) {
+        super(id, ObjectReferencedGetter.from(getter::applyAsDouble), setter == null ? ReadonlyReferencedSetter.from() :
+                ObjectReferencedSetter.from((object, value) -> {
+                    if (value == null) {
+                        throw new IllegalArgumentException("Cannot write a null value to a primitive property");
+                    }
+                    setter.accept(object, value);
+                }));
+        this.getter = (ToDoubleFunction<Object>) getter;
+        this.setter = (ObjDoubleConsumer<Object>) setter;
+    }
+
+    private ModelPropertyDouble(String id, ReferencedGetter<O, Double> getter, ReferencedSetter<O, Double> setter,
+                             LeafPath<O> leafPath, ToDoubleFunction<Object> leafGetter, ObjDoubleConsumer<Object> leafSetter) {
+        super(id, getter, setter, leafPath);
+        this.getter = leafGetter;
+        this.setter = leafSetter;
+    }
+
+    // ###########################################################################################################
+    // ################################################ GETTING ##################################################
+    // ###########################################################################################################
+
+    /**
+     * Retrieves this {@link Property}'s value out of the given object without boxing it.
+     * <p>
+     * Equals {@link #getAsDouble(Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The instance to lookup the property value from; might be null.
+     * @return
+     *          This {@link Property}'s retrieved value
+     * @throws InterruptedPropertyPathException
+     *          If any object on the path to this {@link Property}'s value is null.
+     * @throws UnreferencedPropertyPathException
+     *          If there is any referenced property in this {@link Property} value's path that does not have a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context}.
+     * @throws OutboundPropertyPathException
+     *          If there is a referenced property in this {@link Property} value's path that has a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context} that does not match that {@link Property} value's bounds.
+     */
+    public double getAsDouble(O object)
+            throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException {
+        return getAsDouble(object, null);
+    }
+
+    /**
+     * Retrieves this {@link Property}'s value out of the given object without boxing it.
+     * <p>
+     * Since a primitive value cannot be null, an interrupted path always causes an exception.
+     *
+     * @param object
+     *          The instance to lookup the property value from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @return
+     *          This {@link Property}'s retrieved value
+     * @throws InterruptedPropertyPathException
+     *          If any object on the path to this {@link Property}'s value is null.
+     * @throws UnreferencedPropertyPathException
+     *          If there is any referenced property in this {@link Property} value's path that does not have a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context}.
+     * @throws OutboundPropertyPathException
+     *          If there is a referenced property in this {@link Property} value's path that has a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context} that does not match that {@link Property} value's bounds.
+     */
+    public double getAsDouble(O object, Context context)
+            throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException {
+        return this.getter.applyAsDouble(resolveLeaf(object, context));
+    }
+
+    // ###########################################################################################################
+    // ################################################ SETTING ##################################################
+    // ###########################################################################################################
+
+    /**
+     * Writes the given value to this {@link Property} in the given object without boxing it.
+     * <p>
+     * Equals {@link #setAsDouble(Object, double, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The instance to write the property value to; might be null.
+     * @param value
+     *          The value to write.
+     * @throws InterruptedPropertyPathException
+     *          If any object on the path to this {@link Property}'s value is null.
+     * @throws UnreferencedPropertyPathException
+     *          If there is any referenced property in this {@link Property} value's path that does not have a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context}.
+     * @throws OutboundPropertyPathException
+     *          If there is a referenced property in this {@link Property} value's path that has a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context} that does not match that {@link Property} value's bounds.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} is not {@link #isWritable()}.
+     */
+    public void setAsDouble(O object, double value)
+            throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException,
+            ReadonlyPropertyException {
+        setAsDouble(object, value, null);
+    }
+
+    /**
+     * Writes the given value to this {@link Property} in the given object without boxing it.
+     *
+     * @param object
+     *          The instance to write the property value to; might be null.
+     * @param value
+     *          The value to write.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @throws InterruptedPropertyPathException
+     *          If any object on the path to this {@link Property}'s value is null.
+     * @throws UnreferencedPropertyPathException
+     *          If there is any referenced property in this {@link Property} value's path that does not have a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context}.
+     * @throws OutboundPropertyPathException
+     *          If there is a referenced property in this {@link Property} value's path that has a
+     *          {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} included in the given
+     *          {@link Context} that does not match that {@link Property} value's bounds.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} is not {@link #isWritable()}.
+     */
+    public void setAsDouble(O object, double value, Context context)
+            throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException,
+            ReadonlyPropertyException {
+        if (this.setter == null) {
+            throw new ReadonlyPropertyException(this);
+        }
+        this.setter.accept(resolveLeaf(object, context), value);
+    }
+
+    // ###########################################################################################################
+    // ############################################### STREAMING #################################################
+    // ###########################################################################################################
+
+    /**
+     * Returns a {@link DoubleStream} of this {@link Property}'s values for every occurrence in the given object.
+     * <p>
+     * Equals {@link #streamAsDouble(Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The instance to stream the values from; might be null.
+     * @return
+     *          A {@link DoubleStream}, never null, might be empty
+     */
+    public DoubleStream streamAsDouble(O object) {
+        return streamAsDouble(object, null);
+    }
+
+    /**
+     * Returns a {@link DoubleStream} of this {@link Property}'s values for every occurrence in the given object.
+     * <p>
+     * The occurrences equal the ones of {@link #stream(Object, Context)}, but their values are never boxed.
+     *
+     * @param object
+     *          The instance to stream the values from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @return
+     *          A {@link DoubleStream}, never null, might be empty
+     */
+    public DoubleStream streamAsDouble(O object, Context context) {
+        return streamAsDouble(object, context, false);
+    }
+
+    /**
+     * Returns a {@link DoubleStream} of this {@link Property}'s values for every occurrence in the given object.
+     * <p>
+     * The occurrences equal the ones of {@link #stream(Object, Context, boolean)}, but their values are never boxed.
+     *
+     * @param object
+     *          The instance to stream the values from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @param parallel
+     *          Whether the returned {@link DoubleStream} is parallel.
+     * @return
+     *          A {@link DoubleStream}, never null, might be empty
+     */
+    public DoubleStream streamAsDouble(O object, Context context, boolean parallel) {
+        return streamLeaves(object, context, parallel).mapToDouble(this.getter);
+    }
+
+    // ###########################################################################################################
+    // ############################################### EXTRACTING ################################################
+    // ###########################################################################################################
+
+    /**
+     * Extracts this {@link Property}'s values for every occurrence in the given object into a column.
+     * <p>
+     * Equals {@link #columnAsDouble(Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The instance to extract the values from; might be null.
+     * @return
+     *          A new {@link DoubleColumn}, never null, might be empty
+     */
+    public DoubleColumn columnAsDouble(O object) {
+        return columnAsDouble(object, null);
+    }
+
+    /**
+     * Extracts this {@link Property}'s values for every occurrence in the given object into a column.
+     * <p>
+     * The occurrences equal the ones of {@link #column(Object, Context)}, but their values are never boxed. The
+     * column is filled in a single pass without determining a {@link Context} for any of the values and grows as
+     * values are found, so the occurrences are not counted in a separate pass beforehand.
+     *
+     * @param object
+     *          The instance to extract the values from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @return
+     *          A new {@link DoubleColumn}, never null, might be empty
+     */
+    public DoubleColumn columnAsDouble(O object, Context context) {
+        DoubleColumn column = DoubleColumn.of(0);
+        extractLeaves(object, context, (reference, leaf) -> column.accept(reference, this.getter.applyAsDouble(leaf)));
+        return column;
+    }
+
+    // ###########################################################################################################
+    // ############################################## AGGREGATING ################################################
+    // ###########################################################################################################
+
+    /**
+     * Sums up this {@link Property}'s values for every occurrence in the given object without boxing them.
+     * <p>
+     * Equals {@link #sumAsDouble(Object, Context, boolean)} with a null {@link Context}, sequentially.
+     *
+     * @param object
+     *          The instance to sum up the values from; might be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    public double sumAsDouble(O object) {
+        return sumAsDouble(object, null, false);
+    }
+
+    /**
+     * Sums up this {@link Property}'s values for every occurrence in the given object without boxing them.
+     * <p>
+     * In contrast to {@link #sum(Object, Context, boolean, java.util.function.ToDoubleFunction)}, the values are summed up using the compensated summation of {@link DoubleStream#sum()}.
+     *
+     * @param object
+     *          The instance to sum up the values from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @param parallel
+     *          Whether to sum up in parallel.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    public double sumAsDouble(O object, Context context, boolean parallel) {
+        return streamAsDouble(object, context, parallel).sum();
+    }
+
+    /**
+     * Averages this {@link Property}'s values for every occurrence in the given object without boxing them.
+     * <p>
+     * Equals {@link #averageAsDouble(Object, Context, boolean)} with a null {@link Context}, sequentially.
+     *
+     * @param object
+     *          The instance to average the values from; might be null.
+     * @return
+     *          The average, empty if there is no occurrence
+     */
+    public OptionalDouble averageAsDouble(O object) {
+        return averageAsDouble(object, null, false);
+    }
+
+    /**
+     * Averages this {@link Property}'s values for every occurrence in the given object without boxing them.
+     *
+     * @param object
+     *          The instance to average the values from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @param parallel
+     *          Whether to average in parallel.
+     * @return
+     *          The average, empty if there is no occurrence
+     */
+    public OptionalDouble averageAsDouble(O object, Context context, boolean parallel) {
+        return streamAsDouble(object, context, parallel).average();
+    }
+
+    // ###########################################################################################################
+    // ################################################ PATHING ##################################################
+    // ###########################################################################################################
+
+    @Override
+    public <S> ModelPropertyDouble<S> obfuscate(Class<O> objectType) {
+        return new ModelPropertyDouble<>(getId(), getGetter().obfuscate(objectType), getSetter().obfuscate(objectType),
+                obfuscateLeafPath(objectType), this.getter, this.setter);
+    }
+
+    @Override
+    public <S> ModelPropertyDouble<S> prepend(Property<S, O> parent) {
+        return new ModelPropertyDouble<>(parent.getId()+'.'+getId(),
+                PathReferencedGetter.from(parent, this, getGetter()),
+                PathReferencedSetter.from(parent, this, getSetter()),
+                prependLeafPath(parent), this.getter, this.setter);
+    }
+
+    @Override
+    public ModelPropertyDouble<O> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelPropertyDouble<O> compile(CompilationMode compilationMode) {
+        return new ModelPropertyDouble<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter(),
+                compileLeafPath(compilationMode), this.getter, this.setter);
+    }
+
+    // ###########################################################################################################
+    // ################################################ FACTORY ##################################################
+    // ###########################################################################################################
+
+    /**
+     * Factory method for a primitive {@link Property} that resides in an {@link Object}.
+     * <p>
+     * Creates a read-only ({@link Property#isWritable()} == false) {@link Property} since no {@link ObjDoubleConsumer} is
+     * involved.
+     *
+     * @param <O>
+     *          The parent object type of the {@link Property}.
+     * @param getter
+     *          A function that is able to retrieve the value from its parent object; might <b>not</b> be null.
+     * @return
+     *          A new instance, never null
+     */
+    public static <O> ModelPropertyDouble<O> fromObject(ToDoubleFunction<O> getter) {
+        return fromObject(null, getter);
+    }
+
+    /**
+     * Factory method for a primitive {@link Property} that resides in an {@link Object}.
+     * <p>
+     * Creates a read-only ({@link Property#isWritable()} == false) {@link Property} since no {@link ObjDoubleConsumer} is
+     * involved.
+     *
+     * @param <O>
+     *          The parent object type of the {@link Property}.
+     * @param id
+     *          The identifier of the {@link Property}; might be null, then the object id is used.
+     * @param getter
+     *          A function that is able to retrieve the value from its parent object; might <b>not</b> be null.
+     * @return
+     *          A new instance, never null
+     */
+    public static <O> ModelPropertyDouble<O> fromObject(String id, ToDoubleFunction<O> getter) {
+        if (getter == null) {
+            throw new IllegalArgumentException("Cannot create a property from a null getter");
+        }
+        return new ModelPropertyDouble<>(id, getter, null);
+    }
+
+    /**
+     * Factory method for a primitive {@link Property} that resides in an {@link Object}.
+     *
+     * @param <O>
+     *          The parent object type of the {@link Property}.
+     * @param getter
+     *          A function that is able to retrieve the value from its parent object; might <b>not</b> be null.
+     * @param setter
+     *          A function that is able to write a value to its parent object; might <b>not</b> be null.
+     * @return
+     *          A new instance, never null
+     */
+    public static <O> ModelPropertyDouble<O> fromObject(ToDoubleFunction<O> getter, ObjDoubleConsumer<O> setter) {
+        return fromObject(null, getter, setter);
+    }
+
+    /**
+     * Factory method for a primitive {@link Property} that resides in an {@link Object}.
+     *
+     * @param <O>
+     *          The parent object type of the {@link Property}.
+     * @param id
+     *          The identifier of the {@link Property}; might be null, then the object id is used.
+     * @param getter
+     *          A function that is able to retrieve the value from its parent object; might <b>not</b> be null.
+     * @param setter
+     *          A function that is able to write a value to its parent object; might <b>not</b> be null.
+     * @return
+     *          A new instance, never null
+     */
+    public static <O> ModelPropertyDouble<O> fromObject(String id, ToDoubleFunction<O> getter, ObjDoubleConsumer<O> setter) {
+        if (getter == null) {
+            throw new IllegalArgumentException("Cannot create a property from a null getter");
+        } else if (setter == null) {
+            throw new IllegalArgumentException("Cannot create a property from a null setter");
+        }
+        return new ModelPropertyDouble<>(id, getter, setter);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.context.PositionIndex;
 import com.mantledillusion.data.epiphy.context.function.*;
 import com.mantledillusion.data.epiphy.context.io.ReferencedGetter;
 import com.mantledillusion.data.epiphy.context.io.ReferencedSetter;
@@ -7,7 +9,11 @@ import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 import com.mantledillusion.data.epiphy.context.io.*;
 import com.mantledillusion.data.epiphy.exception.*;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +35,8 @@ public class ModelPropertyList<O, E> extends AbstractModelProperty<O, List<E>> i
         ExtractableProperty<O, List<E>, E, Integer>,
         DropableProperty<O, List<E>, E, Integer> {
 
+    private volatile PositionIndex<E> positionIndex;
+
     private ModelPropertyList(String id, ReferencedGetter<O, List<E>> getter, ReferencedSetter<O, List<E>> setter) {
         super(id, getter, setter);
     }
@@ -49,6 +57,16 @@ public class ModelPropertyList<O, E> extends AbstractModelProperty<O, List<E>> i
                 PathReferencedSetter.from(parent, this, getSetter()));
     }
 
+    @Override
+    public ModelPropertyList<O, E> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelPropertyList<O, E> compile(CompilationMode compilationMode) {
+        return new ModelPropertyList<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter());
+    }
+
     // ###########################################################################################################
     // ################################################ CONTEXT ##################################################
     // ###########################################################################################################
@@ -56,58 +74,559 @@ public class ModelPropertyList<O, E> extends AbstractModelProperty<O, List<E>> i
     private List<E> elements(O object, Context context) {
         List<E> elements = get(object, context, false);
         if (elements == null) {
-            throw new InterruptedPropertyPathException(this);
+            throw PropertyPathExceptions.interrupted(this);
         }
         return elements;
     }
 
+    private PositionIndex<E> positionIndex(List<E> elements) {
+        PositionIndex<E> index = this.positionIndex;
+        return index != null && index.getList() == elements ? index : null;
+    }
+
+    private void changed(List<E> elements, int index) {
+        PositionIndex<E> positionIndex = positionIndex(elements);
+        if (positionIndex != null) {
+            positionIndex.changed(index);
+        }
+    }
+
+    /**
+     * Returns the {@link PositionIndex} this {@link Property} uses to look up the positions of elements.
+     *
+     * @return The {@link PositionIndex}, might be null if there is none
+     */
+    public PositionIndex<E> getPositionIndex() {
+        return this.positionIndex;
+    }
+
+    /**
+     * Sets the {@link PositionIndex} this {@link Property} uses to look up the positions of elements.
+     * <p>
+     * When set, {@link #dropIdentical(Object, Object, Context)}, {@link #predecessorOf(Object, Object, Context)} and
+     * {@link #successorOf(Object, Object, Context)} on the index's {@link List} look up the element's position
+     * using the index instead of searching the {@link List}, while all changes made using this {@link Property}
+     * instance are reported to the index. Since the index compares elements by their identity,
+     * {@link #drop(Object, Object, Context)} does not use it and keeps comparing elements using
+     * {@link Object#equals(Object)}.
+     *
+     * @param positionIndex
+     *          The {@link PositionIndex} to use; might be null to search the {@link List} upon every lookup.
+     */
+    public void setPositionIndex(PositionIndex<E> positionIndex) {
+        this.positionIndex = positionIndex;
+    }
+
     @Override
     public boolean contains(O object, Integer reference, Context context) {
-        return reference >= 0 && reference < elements(object, context).size();
+        return contains(object, (int) reference, context);
+    }
+
+    /**
+     * Determines whether the given index is in the bounds of the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #contains(Object, Integer, Context)}, but without boxing the index.
+     *
+     * @param object
+     *          The object to check the index in; might <b>not</b> be null.
+     * @param index
+     *          The index to check.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return True if the index is in bounds, false otherwise
+     */
+    public boolean contains(O object, int index, Context context) {
+        return index >= 0 && index < elements(object, context).size();
     }
 
     @Override
     public Integer include(O object, E element, Context context) {
+        return includeAsInt(object, element, context);
+    }
+
+    /**
+     * Adds an element to the end of the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #include(Object, Object)}, but without boxing the returned index.
+     *
+     * @param object
+     *          The object to add the element to; might <b>not</b> be null.
+     * @param element
+     *          The element to add; might be null.
+     * @return The index the element was added at
+     */
+    public int includeAsInt(O object, E element) {
+        return includeAsInt(object, element, null);
+    }
+
+    /**
+     * Adds an element to the end of the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #include(Object, Object, Context)}, but without boxing the returned index.
+     *
+     * @param object
+     *          The object to add the element to; might <b>not</b> be null.
+     * @param element
+     *          The element to add; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The index the element was added at
+     */
+    public int includeAsInt(O object, E element, Context context) {
         List<E> elements = elements(object, context);
         elements.add(element);
         return elements.size()-1;
     }
 
+    /**
+     * Adds the given elements to the end of the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #includeAll(Object, Collection, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to add the elements to; might <b>not</b> be null.
+     * @param elements
+     *          The elements to add in their iteration order; might <b>not</b> be null, might contain nulls.
+     * @return The index the first element was added at
+     */
+    public int includeAll(O object, Collection<? extends E> elements) {
+        return includeAll(object, elements, null);
+    }
+
+    /**
+     * Adds the given elements to the end of the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals calling {@link #include(Object, Object, Context)} for every element, but resolves the {@link List} only
+     * once and adds all elements at once.
+     *
+     * @param object
+     *          The object to add the elements to; might <b>not</b> be null.
+     * @param elements
+     *          The elements to add in their iteration order; might <b>not</b> be null, might contain nulls.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The index the first element was added at
+     */
+    public int includeAll(O object, Collection<? extends E> elements, Context context) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Cannot include a null collection of elements");
+        }
+        List<E> list = elements(object, context);
+        int index = list.size();
+        list.addAll(elements);
+        return index;
+    }
+
     @Override
     public void insert(O object, E element, Integer reference, Context context) {
+        insertAt(object, element, reference, context);
+    }
+
+    /**
+     * Adds an element at the given index to the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #insert(Object, Object, Object)}, but without boxing the index; named differently since an
+     * overload of insert() would be ambiguous for {@link List}s of {@link Integer}s.
+     *
+     * @param object
+     *          The object to add the element to; might <b>not</b> be null.
+     * @param element
+     *          The element to add; might be null.
+     * @param index
+     *          The index to insert the element at.
+     */
+    public void insertAt(O object, E element, int index) {
+        insertAt(object, element, index, null);
+    }
+
+    /**
+     * Adds an element at the given index to the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #insert(Object, Object, Integer, Context)}, but without boxing the index; named differently since
+     * an overload of insert() would be ambiguous for {@link List}s of {@link Integer}s.
+     *
+     * @param object
+     *          The object to add the element to; might <b>not</b> be null.
+     * @param element
+     *          The element to add; might be null.
+     * @param index
+     *          The index to insert the element at.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     */
+    public void insertAt(O object, E element, int index, Context context) {
         List<E> elements = elements(object, context);
-        if (reference < 0 || reference > elements.size()) {
-            throw new OutboundInsertableReferenceException(this, reference);
+        if (index < 0 || index > elements.size()) {
+            throw new OutboundInsertableReferenceException(this, index);
+        }
+        elements.add(index, element);
+        changed(elements, index);
+    }
+
+    /**
+     * Adds the given elements at the given index to the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #insertAll(Object, Collection, int, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to add the elements to; might <b>not</b> be null.
+     * @param elements
+     *          The elements to add in their iteration order; might <b>not</b> be null, might contain nulls.
+     * @param index
+     *          The index to insert the first element at.
+     */
+    public void insertAll(O object, Collection<? extends E> elements, int index) {
+        insertAll(object, elements, index, null);
+    }
+
+    /**
+     * Adds the given elements at the given index to the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals calling {@link #insertAt(Object, Object, int, Context)} for every element at increasing indices, but
+     * resolves the {@link List} only once and shifts its succeeding elements only once.
+     *
+     * @param object
+     *          The object to add the elements to; might <b>not</b> be null.
+     * @param elements
+     *          The elements to add in their iteration order; might <b>not</b> be null, might contain nulls.
+     * @param index
+     *          The index to insert the first element at.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     */
+    public void insertAll(O object, Collection<? extends E> elements, int index, Context context) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Cannot insert a null collection of elements");
+        }
+        List<E> list = elements(object, context);
+        if (index < 0 || index > list.size()) {
+            throw new OutboundInsertableReferenceException(this, index);
+        }
+        if (list.addAll(index, elements)) {
+            changed(list, index);
         }
-        elements(object, context).add(reference, element);
     }
 
     @Override
     public ReferencedValue<Integer, E> strip(O object, Context context) {
         List<E> elements = elements(object, context);
-        return elements.isEmpty() ? null : ReferencedValue.of(elements.size()-1, elements.remove(elements.size()-1));
+        if (elements.isEmpty()) {
+            return null;
+        }
+        int index = elements.size()-1;
+        E element = elements.remove(index);
+        changed(elements, index);
+        return ReferencedValue.of(index, element);
     }
 
     @Override
     public E extract(O object, Integer reference, Context context) {
+        return extract(object, (int) reference, context);
+    }
+
+    /**
+     * Removes the element at the given index from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #extract(Object, Object)}, but without boxing the index.
+     *
+     * @param object
+     *          The object to remove the element from; might <b>not</b> be null.
+     * @param index
+     *          The index to remove the element at.
+     * @return The removed element, might be null
+     */
+    public E extract(O object, int index) {
+        return extract(object, index, null);
+    }
+
+    /**
+     * Removes the element at the given index from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #extract(Object, Integer, Context)}, but without boxing the index.
+     *
+     * @param object
+     *          The object to remove the element from; might <b>not</b> be null.
+     * @param index
+     *          The index to remove the element at.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The removed element, might be null
+     */
+    public E extract(O object, int index, Context context) {
         List<E> elements = elements(object, context);
-        if (reference < 0 || reference >= elements.size()) {
-            throw new OutboundExtractableReferenceException(this, reference);
+        if (index < 0 || index >= elements.size()) {
+            throw new OutboundExtractableReferenceException(this, index);
         }
-        return elements.remove((int) reference);
+        E element = elements.remove(index);
+        changed(elements, index);
+        return element;
+    }
+
+    /**
+     * Removes the elements in the given range from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #extractRange(Object, int, int, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to remove the elements from; might <b>not</b> be null.
+     * @param fromIndex
+     *          The index of the first element to remove, inclusive.
+     * @param toIndex
+     *          The index of the last element to remove, exclusive.
+     * @return A new {@link List} of the removed elements in their former order, never null
+     */
+    public List<E> extractRange(O object, int fromIndex, int toIndex) {
+        return extractRange(object, fromIndex, toIndex, null);
+    }
+
+    /**
+     * Removes the elements in the given range from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals calling {@link #extract(Object, int, Context)} for every index of the range, but resolves the
+     * {@link List} only once and shifts its succeeding elements only once.
+     *
+     * @param object
+     *          The object to remove the elements from; might <b>not</b> be null.
+     * @param fromIndex
+     *          The index of the first element to remove, inclusive.
+     * @param toIndex
+     *          The index of the last element to remove, exclusive.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return A new {@link List} of the removed elements in their former order, never null
+     */
+    public List<E> extractRange(O object, int fromIndex, int toIndex, Context context) {
+        List<E> elements = elements(object, context);
+        if (fromIndex < 0 || fromIndex > elements.size()) {
+            throw new OutboundExtractableReferenceException(this, fromIndex);
+        } else if (toIndex < fromIndex || toIndex > elements.size()) {
+            throw new OutboundExtractableReferenceException(this, toIndex);
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> extracted = new ArrayList<>(range);
+        range.clear();
+        if (!extracted.isEmpty()) {
+            changed(elements, fromIndex);
+        }
+        return extracted;
     }
 
     @Override
     public Integer drop(O object, E element, Context context) {
         List<E> elements = elements(object, context);
-        Integer index = elements.indexOf(element);
+        int index = elements.indexOf(element);
         if (index == -1) {
             throw new UnknownDropableElementException(this, element);
         }
-        elements.remove(element);
+        elements.remove(index);
+        changed(elements, index);
         return index;
     }
 
+    /**
+     * Removes the given element from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #dropIdentical(Object, Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to remove the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to remove; might be null.
+     * @return The index the element has been removed from
+     * @throws UnknownDropableElementException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public Integer dropIdentical(O object, E element) throws UnknownDropableElementException {
+        return dropIdentical(object, element, null);
+    }
+
+    /**
+     * Removes the given element from the {@link List} represented by this {@link Property}.
+     * <p>
+     * In contrast to {@link #drop(Object, Object, Context)}, elements are compared by their identity, which allows
+     * looking up the element's position using the {@link PositionIndex} set on this {@link Property}.
+     *
+     * @param object
+     *          The object to remove the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to remove; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The index the element has been removed from
+     * @throws UnknownDropableElementException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public Integer dropIdentical(O object, E element, Context context) throws UnknownDropableElementException {
+        List<E> elements = elements(object, context);
+        int index = position(elements, element);
+        if (index == -1) {
+            throw new UnknownDropableElementException(this, element);
+        }
+        elements.remove(index);
+        changed(elements, index);
+        return index;
+    }
+
+    /**
+     * Removes all occurrences of the given elements from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #dropAll(Object, Collection, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to remove the elements from; might <b>not</b> be null.
+     * @param elements
+     *          The elements to remove; might <b>not</b> be null, might contain nulls.
+     * @return The amount of removed elements
+     */
+    public int dropAll(O object, Collection<? extends E> elements) {
+        return dropAll(object, elements, null);
+    }
+
+    /**
+     * Removes all occurrences of the given elements from the {@link List} represented by this {@link Property}.
+     * <p>
+     * Elements are compared using {@link Object#equals(Object)} and {@link Object#hashCode()}. In contrast to
+     * {@link #drop(Object, Object, Context)}, elements that are not in the {@link List} are ignored; the
+     * {@link List} is resolved only once and searched only once for all elements.
+     *
+     * @param object
+     *          The object to remove the elements from; might <b>not</b> be null.
+     * @param elements
+     *          The elements to remove; might <b>not</b> be null, might contain nulls.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The amount of removed elements
+     */
+    public int dropAll(O object, Collection<? extends E> elements, Context context) {
+        if (elements == null) {
+            throw new IllegalArgumentException("Cannot drop a null collection of elements");
+        }
+        List<E> list = elements(object, context);
+        Set<E> dropped = new HashSet<>(elements);
+        int index = 0;
+        for (E element : list) {
+            if (dropped.contains(element)) {
+                break;
+            }
+            index++;
+        }
+        if (index == list.size()) {
+            return 0;
+        }
+        int size = list.size();
+        list.removeIf(dropped::contains);
+        changed(list, index);
+        return size - list.size();
+    }
+
+    private int position(List<E> elements, E element) {
+        PositionIndex<E> positionIndex = positionIndex(elements);
+        if (positionIndex != null) {
+            return positionIndex.lookup(element);
+        }
+        for (int i = 0; i < elements.size(); i++) {
+            if (elements.get(i) == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the predecessor of the given element in the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #predecessorOf(Object, Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to get the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to search a predecessor for; might be null.
+     * @return The predecessor of the given element, might be null if the given element is the first element
+     * @throws IllegalArgumentException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public E predecessorOf(O object, E element) throws IllegalArgumentException {
+        return predecessorOf(object, element, null);
+    }
+
+    /**
+     * Returns the predecessor of the given element in the {@link List} represented by this {@link Property}.
+     * <p>
+     * Elements are compared by their identity.
+     *
+     * @param object
+     *          The object to get the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to search a predecessor for; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The predecessor of the given element, might be null if the given element is the first element
+     * @throws IllegalArgumentException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public E predecessorOf(O object, E element, Context context) throws IllegalArgumentException {
+        List<E> elements = elements(object, context);
+        int index = position(elements, element);
+        if (index == -1) {
+            throw new IllegalArgumentException("The given element '" + element +
+                    "' is not an element of the given object '" + object + "'");
+        }
+        return index == 0 ? null : elements.get(index-1);
+    }
+
+    /**
+     * Returns the successor of the given element in the {@link List} represented by this {@link Property}.
+     * <p>
+     * Equals {@link #successorOf(Object, Object, Context)} with a null {@link Context}.
+     *
+     * @param object
+     *          The object to get the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to search a successor for; might be null.
+     * @return The successor of the given element, might be null if the given element is the last element
+     * @throws IllegalArgumentException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public E successorOf(O object, E element) throws IllegalArgumentException {
+        return successorOf(object, element, null);
+    }
+
+    /**
+     * Returns the successor of the given element in the {@link List} represented by this {@link Property}.
+     * <p>
+     * Elements are compared by their identity.
+     *
+     * @param object
+     *          The object to get the element from; might <b>not</b> be null.
+     * @param element
+     *          The element to search a successor for; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the contexted properties from the root property to
+     *          this {@link Property}; might be null.
+     * @return The successor of the given element, might be null if the given element is the last element
+     * @throws IllegalArgumentException
+     *          If the given element is not an element of the {@link List}.
+     */
+    public E successorOf(O object, E element, Context context) throws IllegalArgumentException {
+        List<E> elements = elements(object, context);
+        int index = position(elements, element);
+        if (index == -1) {
+            throw new IllegalArgumentException("The given element '" + element +
+                    "' is not an element of the given object '" + object + "'");
+        }
+        return index == elements.size()-1 ? null : elements.get(index+1);
+    }
+
     // ###########################################################################################################
     // ################################################ FACTORY ##################################################
     // ###########################################################################################################
@@ -1,13 +1,16 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.KeyIndex;
 import com.mantledillusion.data.epiphy.context.function.DropableProperty;
 import com.mantledillusion.data.epiphy.context.function.ExtractableProperty;
 import com.mantledillusion.data.epiphy.context.function.InsertableProperty;
 import com.mantledillusion.data.epiphy.context.io.*;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundExtractableReferenceException;
 import com.mantledillusion.data.epiphy.exception.UnknownDropableElementException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.*;
 
@@ -28,6 +31,9 @@ public class ModelPropertyMap<O, K, V>  extends AbstractModelProperty<O, Map<K,
         ExtractableProperty<O, Map<K, V>, V, K>,
         DropableProperty<O, Map<K, V>, V, K> {
 
+    private volatile ExecutionPolicy executionPolicy;
+    private volatile KeyIndex<K, V> keyIndex;
+
     private ModelPropertyMap(String id, ReferencedGetter<O, Map<K, V>> getter, ReferencedSetter<O, Map<K, V>> setter) {
         super(id, getter, setter);
     }
@@ -48,6 +54,16 @@ public class ModelPropertyMap<O, K, V>  extends AbstractModelProperty<O, Map<K,
                 PathReferencedSetter.from(parent, this, getSetter()));
     }
 
+    @Override
+    public ModelPropertyMap<O, K, V> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelPropertyMap<O, K, V> compile(CompilationMode compilationMode) {
+        return new ModelPropertyMap<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter());
+    }
+
     // ###########################################################################################################
     // ################################################ CONTEXT ##################################################
     // ###########################################################################################################
@@ -55,11 +71,46 @@ public class ModelPropertyMap<O, K, V>  extends AbstractModelProperty<O, Map<K,
     private Map<K, V> elements(O object, Context context) {
         Map<K, V> elements = get(object, context, false);
         if (elements == null) {
-            throw new InterruptedPropertyPathException(this);
+            throw PropertyPathExceptions.interrupted(this);
         }
         return elements;
     }
 
+    private KeyIndex<K, V> keyIndex(Map<K, V> elements) {
+        KeyIndex<K, V> index = this.keyIndex;
+        return index != null && index.getMap() == elements ? index : null;
+    }
+
+    private void changed(Map<K, V> elements, K key, V oldValue) {
+        KeyIndex<K, V> keyIndex = keyIndex(elements);
+        if (keyIndex != null) {
+            keyIndex.changed(key, oldValue);
+        }
+    }
+
+    /**
+     * Returns the {@link KeyIndex} this {@link Property} uses to look up the keys of elements.
+     *
+     * @return The {@link KeyIndex}, might be null if there is none
+     */
+    public KeyIndex<K, V> getKeyIndex() {
+        return this.keyIndex;
+    }
+
+    /**
+     * Sets the {@link KeyIndex} this {@link Property} uses to look up the keys of elements.
+     * <p>
+     * When set, {@link #drop(Object, Object, Context)} on the index's {@link Map} looks up the element's key using
+     * the index instead of searching the {@link Map}, while all changes made using this {@link Property} instance are
+     * reported to the index.
+     *
+     * @param keyIndex
+     *          The {@link KeyIndex} to use; might be null to search the {@link Map} upon every lookup.
+     */
+    public void setKeyIndex(KeyIndex<K, V> keyIndex) {
+        this.keyIndex = keyIndex;
+    }
+
     @Override
     public boolean contains(O object, K reference, Context context) {
         return elements(object, context).containsKey(reference);
@@ -67,7 +118,9 @@ public class ModelPropertyMap<O, K, V>  extends AbstractModelProperty<O, Map<K,
 
     @Override
     public void insert(O object, V element, K reference, Context context) {
-        elements(object, context).put(reference, element);
+        Map<K, V> elements = elements(object, context);
+        V oldValue = elements.put(reference, element);
+        changed(elements, reference, oldValue);
     }
 
     @Override
@@ -76,21 +129,75 @@ public class ModelPropertyMap<O, K, V>  extends AbstractModelProperty<O, Map<K,
         if (!elements.containsKey(reference)) {
             throw new OutboundExtractableReferenceException(this, reference);
         }
-        return elements(object, context).remove(reference);
+        V element = elements.remove(reference);
+        changed(elements, reference, element);
+        return element;
     }
 
     @Override
     public K drop(O object, V element, Context context) {
         Map<K, V> elements = elements(object, context);
-        Optional<K> key = elements.entrySet().parallelStream().
-                filter(entry -> Objects.equals(entry.getValue(), element)).
-                map(Map.Entry::getKey).
-                findFirst();
-        if (key.isPresent()) {
-            return key.filter(k -> elements.remove(k, element)).get();
+        KeyIndex<K, V> keyIndex = keyIndex(elements);
+        if (keyIndex != null) {
+            for (K key : keyIndex.lookup(element)) {
+                if (elements.remove(key, element)) {
+                    keyIndex.changed(key, element);
+                    return key;
+                }
+            }
         } else {
-            throw new UnknownDropableElementException(this, element);
+            Map.Entry<K, V> entry = search(elements, element);
+            if (entry != null) {
+                K key = entry.getKey();
+                if (elements.remove(key, element)) {
+                    return key;
+                }
+            }
+        }
+        throw new UnknownDropableElementException(this, element);
+    }
+
+    private Map.Entry<K, V> search(Map<K, V> elements, V element) {
+        ExecutionPolicy executionPolicy = getExecutionPolicy();
+        if (executionPolicy.isParallel(elements.size())) {
+            return executionPolicy.process(elements.entrySet(), entries -> entries.
+                    filter(entry -> Objects.equals(entry.getValue(), element)).
+                    findFirst().
+                    orElse(null));
         }
+        for (Map.Entry<K, V> entry : elements.entrySet()) {
+            if (Objects.equals(entry.getValue(), element)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // ###########################################################################################################
+    // ############################################### EXECUTION #################################################
+    // ###########################################################################################################
+
+    /**
+     * Returns the {@link ExecutionPolicy} used when searching the {@link Map} for an element to drop.
+     *
+     * @return The {@link ExecutionPolicy}, never null; {@link ExecutionPolicy#getDefault()} by default
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        ExecutionPolicy executionPolicy = this.executionPolicy;
+        return executionPolicy != null ? executionPolicy : ExecutionPolicy.getDefault();
+    }
+
+    /**
+     * Sets the {@link ExecutionPolicy} to use when searching the {@link Map} for an element to drop.
+     * <p>
+     * A parallel policy only searches {@link Map}s in parallel whose size exceeds the policy's threshold; smaller
+     * ones are searched sequentially on the calling thread. The policy is not used when a {@link KeyIndex} is set.
+     *
+     * @param executionPolicy
+     *          The policy to use; might be null to use {@link ExecutionPolicy#getDefault()}.
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
     }
 
     // ###########################################################################################################
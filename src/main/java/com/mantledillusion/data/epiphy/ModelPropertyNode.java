@@ -1,15 +1,24 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
+import com.mantledillusion.data.epiphy.context.RouteCache;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.data.epiphy.context.io.*;
 import com.mantledillusion.data.epiphy.context.io.ReferencedGetter;
 import com.mantledillusion.data.epiphy.context.io.ReferencedSetter;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Represents a {@link Property} whose value is a node of a tree.
@@ -26,11 +35,24 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
     private static class ModelPropertyNodeRetriever<N> implements NodeRetriever<N> {
 
         private final Property<N, N> nodeRetriever;
+        private volatile ExecutionPolicy executionPolicy;
+        private volatile RouteCache routeCache;
 
         private ModelPropertyNodeRetriever(Property<N, N> nodeRetriever) {
             this.nodeRetriever = nodeRetriever;
         }
 
+        @Override
+        public ExecutionPolicy getExecutionPolicy() {
+            ExecutionPolicy executionPolicy = this.executionPolicy;
+            return executionPolicy != null ? executionPolicy : ExecutionPolicy.getDefault();
+        }
+
+        @Override
+        public RouteCache getRouteCache() {
+            return this.routeCache;
+        }
+
         @Override
         public String getId() {
             return this.nodeRetriever.getId();
@@ -51,11 +73,21 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
             return this.nodeRetriever.get(object, context, allowNull);
         }
 
+        @Override
+        public Resolution<N> tryGet(N object, Context context, boolean allowNull) {
+            return this.nodeRetriever.tryGet(object, context, allowNull);
+        }
+
         @Override
         public void set(N object, N value, Context context) {
             this.nodeRetriever.set(object, value, context);
         }
 
+        @Override
+        public void setAll(N object, Context context, ExecutionPolicy executionPolicy, Function<? super N, ? extends N> function) {
+            this.nodeRetriever.setAll(object, context, executionPolicy, function);
+        }
+
         @Override
         public Property<?, ?> getParent() {
             return this.nodeRetriever.getParent();
@@ -76,6 +108,16 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
             return this.nodeRetriever.prepend(parent);
         }
 
+        @Override
+        public Property<N, N> compile() {
+            return this.nodeRetriever.compile();
+        }
+
+        @Override
+        public Property<N, N> compile(CompilationMode compilationMode) {
+            return this.nodeRetriever.compile(compilationMode);
+        }
+
         @Override
         public int occurrences(N object) {
             return this.nodeRetriever.occurrences(object);
@@ -86,16 +128,36 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
             return this.nodeRetriever.contextualize(object, context, traversingMode, includeNull);
         }
 
+        @Override
+        public Spliterator<Context> spliterate(N object, Context context, TraversingMode traversingMode, boolean includeNull) {
+            return this.nodeRetriever.spliterate(object, context, traversingMode, includeNull);
+        }
+
+        @Override
+        public Spliterator<ReferencedValue<Context, N>> traverse(N object, Context context, TraversingMode traversingMode, boolean includeNull) {
+            return this.nodeRetriever.traverse(object, context, traversingMode, includeNull);
+        }
+
+        @Override
+        public Spliterator<N> values(N object, Context context, TraversingMode traversingMode) {
+            return this.nodeRetriever.values(object, context, traversingMode);
+        }
+
+        @Override
+        public void extract(N object, Context context, BiConsumer<PropertyReference<?, ?>, ? super N> consumer) {
+            this.nodeRetriever.extract(object, context, consumer);
+        }
+
         @Override
         public Collection<Context> contextualize(N object, N value, Context context) {
             return this.nodeRetriever.contextualize(object, value, context);
         }
     }
 
-    private final NodeRetriever<N> nodeRetriever;
+    private final ModelPropertyNodeRetriever<N> nodeRetriever;
 
     private ModelPropertyNode(String id, ReferencedGetter<O, N> getter, ReferencedSetter<O, N> setter,
-                              NodeRetriever<N> nodeRetriever) {
+                              ModelPropertyNodeRetriever<N> nodeRetriever) {
         super(id, getter, setter);
         this.nodeRetriever = nodeRetriever;
     }
@@ -127,6 +189,72 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
                 this.nodeRetriever);
     }
 
+    @Override
+    public ModelPropertyNode<O, N> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelPropertyNode<O, N> compile(CompilationMode compilationMode) {
+        return new ModelPropertyNode<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter(), this.nodeRetriever);
+    }
+
+    // ###########################################################################################################
+    // ############################################### EXECUTION #################################################
+    // ###########################################################################################################
+
+    /**
+     * Returns the {@link ExecutionPolicy} used when counting occurrences of or contextualizing this {@link Property}'s
+     * node tree.
+     *
+     * @return The {@link ExecutionPolicy}, never null; {@link ExecutionPolicy#getDefault()} by default
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return this.nodeRetriever.getExecutionPolicy();
+    }
+
+    /**
+     * Sets the {@link ExecutionPolicy} to use when counting occurrences of or recursively contextualizing this
+     * {@link Property}'s node tree.
+     * <p>
+     * The policy is shared with all {@link Property}s derived from this one, for example by obfuscating, prepending
+     * or compiling.
+     *
+     * @param executionPolicy
+     *          The policy to use; might be null to use {@link ExecutionPolicy#getDefault()}.
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.nodeRetriever.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * Returns the {@link RouteCache} used to memorize nodes reached when getting this {@link Property}'s value using
+     * a {@link com.mantledillusion.data.epiphy.context.reference.PropertyRoute}.
+     *
+     * @return The {@link RouteCache}, might be null if routes are not cached, which is the default
+     */
+    public RouteCache getRouteCache() {
+        return this.nodeRetriever.getRouteCache();
+    }
+
+    /**
+     * Sets the {@link RouteCache} to use to memorize nodes reached when getting this {@link Property}'s value using a
+     * {@link com.mantledillusion.data.epiphy.context.reference.PropertyRoute}, so reading siblings or descendants of a
+     * node resumes from the memorized node instead of following the whole route from the root node.
+     * <p>
+     * The cache is cleared on every set through this {@link Property}, but it is <b>not</b> aware of changes made to
+     * the node tree by any other means; such changes require clearing the cache manually.
+     * <p>
+     * The cache is shared with all {@link Property}s derived from this one, for example by obfuscating, prepending
+     * or compiling.
+     *
+     * @param routeCache
+     *          The cache to use; might be null to disable caching.
+     */
+    public void setRouteCache(RouteCache routeCache) {
+        this.nodeRetriever.routeCache = routeCache;
+    }
+
     // ###########################################################################################################
     // ################################################ FACTORY ##################################################
     // ###########################################################################################################
@@ -162,7 +290,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <N> ModelPropertyNode<N, N> from(String id, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(retriever),
                 NodeReferencedSetter.from(retriever), retriever);
     }
@@ -210,7 +338,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <O, N> ModelPropertyNode<O, N> fromObject(String id, Getter<O, N> getter, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(ObjectReferencedGetter.from(getter), retriever),
                 ReadonlyReferencedSetter.from(), retriever);
     }
@@ -262,7 +390,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <O, N> ModelPropertyNode<O, N> fromObject(String id, Getter<O, N> getter, Setter<O, N> setter, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(ObjectReferencedGetter.from(getter), retriever),
                 NodeReferencedSetter.from(ObjectReferencedGetter.from(getter), ObjectReferencedSetter.from(setter), retriever), retriever);
     }
@@ -298,7 +426,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <N> ModelPropertyNode<List<N>, N> fromList(String id, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(ListReferencedGetter.from(), retriever),
                 NodeReferencedSetter.from(ListReferencedGetter.from(), ListReferencedSetter.from(), retriever), retriever);
     }
@@ -334,7 +462,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <N> ModelPropertyNode<Set<N>, N> fromSet(String id, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(SetReferencedGetter.from(), retriever),
                 NodeReferencedSetter.from(SetReferencedGetter.from(), SetReferencedSetter.from(), retriever), retriever);
     }
@@ -374,7 +502,7 @@ public class ModelPropertyNode<O, N> extends AbstractModelProperty<O, N> {
      *          A new instance, never null
      */
     public static <K, N> ModelPropertyNode<Map<K, N>, N> fromMap(String id, ModelProperty<N, N> nodeRetriever) {
-        NodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
+        ModelPropertyNodeRetriever<N> retriever = new ModelPropertyNodeRetriever<>(nodeRetriever);
         return new ModelPropertyNode<>(id, NodeReferencedGetter.from(MapReferencedGetter.from(), retriever),
                 NodeReferencedSetter.from(MapReferencedGetter.from(), MapReferencedSetter.from(), retriever), retriever);
     }
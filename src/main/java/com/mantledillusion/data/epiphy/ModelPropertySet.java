@@ -1,11 +1,12 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.function.DropableProperty;
 import com.mantledillusion.data.epiphy.context.function.IncludableProperty;
 import com.mantledillusion.data.epiphy.context.io.*;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.UnknownDropableElementException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,16 @@ public class ModelPropertySet<O, E> extends AbstractModelProperty<O, Set<E>> imp
                 PathReferencedSetter.from(parent, this, getSetter()));
     }
 
+    @Override
+    public ModelPropertySet<O, E> compile() {
+        return compile(CompilationMode.STEPS);
+    }
+
+    @Override
+    public ModelPropertySet<O, E> compile(CompilationMode compilationMode) {
+        return new ModelPropertySet<>(getId(), getCompiledGetter(compilationMode), getCompiledSetter());
+    }
+
     // ###########################################################################################################
     // ################################################ CONTEXT ##################################################
     // ###########################################################################################################
@@ -52,7 +63,7 @@ public class ModelPropertySet<O, E> extends AbstractModelProperty<O, Set<E>> imp
     private Set<E> elements(O object, Context context) {
         Set<E> elements = get(object, context, false);
         if (elements == null) {
-            throw new InterruptedPropertyPathException(this);
+            throw PropertyPathExceptions.interrupted(this);
         }
         return elements;
     }
@@ -1,5 +1,8 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.RouteCache;
+
 /**
  * Interface for the special case of a {@link Property} that whose object and value are of the same type, so the
  * {@link NodeRetriever} is able to access the next deeper level of a node tree.
@@ -9,4 +12,24 @@ package com.mantledillusion.data.epiphy;
  */
 public interface NodeRetriever<N> extends Property<N, N> {
 
+    /**
+     * Returns the {@link ExecutionPolicy} to use when traversing through the node tree this {@link NodeRetriever}
+     * enables access to.
+     *
+     * @return The {@link ExecutionPolicy}, never null; {@link ExecutionPolicy#getDefault()} by default
+     */
+    default ExecutionPolicy getExecutionPolicy() {
+        return ExecutionPolicy.getDefault();
+    }
+
+    /**
+     * Returns the {@link RouteCache} to memorize nodes reached by following a
+     * {@link com.mantledillusion.data.epiphy.context.reference.PropertyRoute} through the node tree this
+     * {@link NodeRetriever} enables access to.
+     *
+     * @return The {@link RouteCache}, might be null if routes are not cached; null by default
+     */
+    default RouteCache getRouteCache() {
+        return null;
+    }
 }
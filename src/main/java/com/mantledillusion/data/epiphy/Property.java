@@ -1,15 +1,30 @@
 package com.mantledillusion.data.epiphy;
 
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.column.ObjectColumn;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 
-import java.util.Collection;
-import java.util.Set;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface for a value that resides in an object.
@@ -218,6 +233,57 @@ public interface Property<O, V> {
     V get(O object, Context context, boolean allowNull)
             throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException;
 
+    /**
+     * Tries to retrieve this {@link Property}'s value out of the given object.
+     * <p>
+     * Equals {@link #tryGet(Object, Context, boolean)} with a null {@link Context} and allowNull set to false.
+     *
+     * @param object
+     *          The instance to lookup the property value from; might be null.
+     * @return
+     *          The {@link Resolution} of this {@link Property}'s value, never null
+     */
+    default Resolution<V> tryGet(O object) {
+        return tryGet(object, null, false);
+    }
+
+    /**
+     * Tries to retrieve this {@link Property}'s value out of the given object.
+     * <p>
+     * Equals {@link #tryGet(Object, Context, boolean)} with allowNull set to false.
+     *
+     * @param object
+     *          The instance to lookup the property value from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @return
+     *          The {@link Resolution} of this {@link Property}'s value, never null
+     */
+    default Resolution<V> tryGet(O object, Context context) {
+        return tryGet(object, context, false);
+    }
+
+    /**
+     * Tries to retrieve this {@link Property}'s value out of the given object.
+     * <p>
+     * Where {@link #get(Object, Context, boolean)} would throw an exception, this method returns a failed
+     * {@link Resolution} describing the failure and the segment of the path it occurred at instead, without creating
+     * any exception.
+     *
+     * @param object
+     *          The instance to lookup the property value from; might be null.
+     * @param context
+     *          The {@link Context} that should be used to satisfy the referenced properties from the root object to
+     *          this {@link Property}'s value; might be null.
+     * @param allowNull
+     *          Whether or not any parent object of this property is allowed to be null. If set to true, instead of
+     *          failing with {@link Resolution.Failure#INTERRUPTED}, the method will resolve to null.
+     * @return
+     *          The {@link Resolution} of this {@link Property}'s value, never null
+     */
+    Resolution<V> tryGet(O object, Context context, boolean allowNull);
+
     // ###########################################################################################################
     // ################################################ SETTING ##################################################
     // ###########################################################################################################
@@ -272,6 +338,82 @@ public interface Property<O, V> {
             throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException,
             ReadonlyPropertyException;
 
+    /**
+     * Writes the given value to every occurrence of this {@link Property} in the given object.
+     * <p>
+     * Equals {@link #setAll(Object, Context, ExecutionPolicy, Function)} with a null {@link Context}, sequential
+     * execution and a function always returning the given value.
+     *
+     * @param object
+     *          The instance to write the property values to; might be null.
+     * @param value
+     *          The value to set; might be null.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} does not have a {@link Setter} defined to write its values with.
+     */
+    default void setAll(O object, V value) throws ReadonlyPropertyException {
+        setAll(object, null, ExecutionPolicy.SEQUENTIAL, current -> value);
+    }
+
+    /**
+     * Replaces the value of every occurrence of this {@link Property} in the given object.
+     * <p>
+     * Equals {@link #setAll(Object, Context, ExecutionPolicy, Function)} with a null {@link Context} and sequential
+     * execution.
+     *
+     * @param object
+     *          The instance to write the property values to; might be null.
+     * @param function
+     *          The function determining the new value of an occurrence from its current one; might <b>not</b> be null.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} does not have a {@link Setter} defined to write its values with.
+     */
+    default void setAll(O object, Function<? super V, ? extends V> function) throws ReadonlyPropertyException {
+        setAll(object, null, ExecutionPolicy.SEQUENTIAL, function);
+    }
+
+    /**
+     * Replaces the value of every occurrence of this {@link Property} in the given object.
+     * <p>
+     * Equals {@link #setAll(Object, Context, ExecutionPolicy, Function)} with sequential execution.
+     *
+     * @param object
+     *          The instance to write the property values to; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param function
+     *          The function determining the new value of an occurrence from its current one; might <b>not</b> be null.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} does not have a {@link Setter} defined to write its values with.
+     */
+    default void setAll(O object, Context context, Function<? super V, ? extends V> function)
+            throws ReadonlyPropertyException {
+        setAll(object, context, ExecutionPolicy.SEQUENTIAL, function);
+    }
+
+    /**
+     * Replaces the value of every occurrence of this {@link Property} in the given object.
+     * <p>
+     * The occurrences equal the ones of {@link #traverse(Object, Context, TraversingMode, boolean)} when traversing
+     * recursively including null values, but the path to them is walked only once instead of once per occurrence.
+     * <p>
+     * Where the occurrences reside in {@link java.util.List}s or {@link java.util.Map}s, the given policy decides
+     * whether they are replaced in parallel; the function then has to be safe to be called concurrently.
+     *
+     * @param object
+     *          The instance to write the property values to; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param executionPolicy
+     *          The policy to replace values with; might <b>not</b> be null.
+     * @param function
+     *          The function determining the new value of an occurrence from its current one; might <b>not</b> be null.
+     * @throws ReadonlyPropertyException
+     *          If this {@link Property} does not have a {@link Setter} defined to write its values with.
+     */
+    void setAll(O object, Context context, ExecutionPolicy executionPolicy, Function<? super V, ? extends V> function)
+            throws ReadonlyPropertyException;
+
     // ###########################################################################################################
     // ################################################ PATHING ##################################################
     // ###########################################################################################################
@@ -326,6 +468,35 @@ public interface Property<O, V> {
      */
     <S> Property<S, V> prepend(Property<S, O> parent);
 
+    /**
+     * Compiles this {@link Property}'s path into a flat sequence of steps, one for every segment on the path.
+     * <p>
+     * The returned {@link Property} behaves exactly like this one and is contextualized by the same
+     * {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference}s, but getting and setting its value
+     * only requires a single call per path segment instead of descending through every parent {@link Property}.
+     * <p>
+     * Since compiling resolves the path at the time of calling, it is most beneficial for deep paths that are created
+     * once and then used frequently.
+     * <p>
+     * Equals {@link #compile(CompilationMode)} with {@link CompilationMode#STEPS}.
+     *
+     * @return A new {@link Property} instance with the same features as this one, never null
+     */
+    Property<O, V> compile();
+
+    /**
+     * Compiles this {@link Property}'s path into a flat accessor, one for every segment on the path.
+     * <p>
+     * The returned {@link Property} behaves exactly like this one and is contextualized by the same
+     * {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference}s, but getting its value does not
+     * require descending through every parent {@link Property}.
+     *
+     * @param compilationMode
+     *          The mode determining how the path is compiled; might <b>not</b> be null.
+     * @return A new {@link Property} instance with the same features as this one, never null
+     */
+    Property<O, V> compile(CompilationMode compilationMode);
+
     Property<?, ?> getParent();
 
     /**
@@ -533,6 +704,158 @@ public interface Property<O, V> {
      */
     Collection<Context> contextualize(O object, V value, Context context);
 
+    /**
+     * Returns a lazy {@link Spliterator} of {@link Context}s for every occurrence of this {@link Property} in the given
+     * object.
+     * <p>
+     * Other than {@link #contextualize(Object)}, the {@link Context}s are determined one by one while the
+     * {@link Spliterator} is advanced, so consumers that stop early never cause all {@link Context}s to be determined.
+     *
+     * @param object
+     * 			The instance to check the value occurrences in; might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link Context}s, never null, might be empty
+     */
+    default Spliterator<Context> spliterate(O object) {
+        return spliterate(object, null, TraversingMode.RECURSIVE, false);
+    }
+
+    /**
+     * Returns a lazy {@link Spliterator} of {@link Context}s for every occurrence of this {@link Property} in the given
+     * object.
+     * <p>
+     * Other than {@link #contextualize(Object, Context)}, the {@link Context}s are determined one by one while the
+     * {@link Spliterator} is advanced, so consumers that stop early never cause all {@link Context}s to be determined.
+     *
+     * @param object
+     * 			The instance to check the value occurrences in; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link Context}s, never null, might be empty
+     */
+    default Spliterator<Context> spliterate(O object, Context context) {
+        return spliterate(object, context, TraversingMode.RECURSIVE, false);
+    }
+
+    /**
+     * Returns a lazy {@link Spliterator} of {@link Context}s for every occurrence of this {@link Property} in the given
+     * object.
+     * <p>
+     * Other than {@link #contextualize(Object, Context, TraversingMode, boolean)}, the {@link Context}s are determined
+     * one by one while the {@link Spliterator} is advanced, so consumers that stop early never cause all
+     * {@link Context}s to be determined.
+     *
+     * @param object
+     * 			The instance to check the value occurrences in; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param traversingMode
+     *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+     *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+     * @param includeNull
+     *          Include {@link Context}s for all values where {@link #exists(Object, Context)} would return true, so
+     *          they might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link Context}s, never null, might be empty
+     */
+    Spliterator<Context> spliterate(O object, Context context, TraversingMode traversingMode, boolean includeNull);
+
+    /**
+     * Returns a lazy {@link Spliterator} of {@link ReferencedValue}s for every occurrence of this {@link Property} in
+     * the given object, each pairing the occurrence's {@link Context} with its value.
+     * <p>
+     * The values are retrieved during the same walk that discovers their {@link Context}s, so traversing all values
+     * does not require resolving each of them again from the given object.
+     *
+     * @param object
+     * 			The instance to traverse the value occurrences of; might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link ReferencedValue}s, never null, might be empty
+     */
+    default Spliterator<ReferencedValue<Context, V>> traverse(O object) {
+        return traverse(object, null, TraversingMode.RECURSIVE, false);
+    }
+
+    /**
+     * Returns a lazy {@link Spliterator} of {@link ReferencedValue}s for every occurrence of this {@link Property} in
+     * the given object, each pairing the occurrence's {@link Context} with its value.
+     * <p>
+     * The values are retrieved during the same walk that discovers their {@link Context}s, so traversing all values
+     * does not require resolving each of them again from the given object.
+     *
+     * @param object
+     * 			The instance to traverse the value occurrences of; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link ReferencedValue}s, never null, might be empty
+     */
+    default Spliterator<ReferencedValue<Context, V>> traverse(O object, Context context) {
+        return traverse(object, context, TraversingMode.RECURSIVE, false);
+    }
+
+    /**
+     * Returns a lazy {@link Spliterator} of {@link ReferencedValue}s for every occurrence of this {@link Property} in
+     * the given object, each pairing the occurrence's {@link Context} with its value.
+     * <p>
+     * The values are retrieved during the same walk that discovers their {@link Context}s, so traversing all values
+     * does not require resolving each of them again from the given object.
+     *
+     * @param object
+     * 			The instance to traverse the value occurrences of; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param traversingMode
+     *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+     *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+     * @param includeNull
+     *          Include {@link ReferencedValue}s for all values where {@link #exists(Object, Context)} would return
+     *          true, so they might be null.
+     * @return
+     * 			A {@link Spliterator} of {@link ReferencedValue}s, never null, might be empty
+     */
+    Spliterator<ReferencedValue<Context, V>> traverse(O object, Context context, TraversingMode traversingMode, boolean includeNull);
+
+    /**
+     * Returns a lazy {@link Spliterator} of the non-null values of all of this {@link Property}'s occurrences in the
+     * given object.
+     * <p>
+     * In contrast to {@link #traverse(Object, Context, TraversingMode, boolean)}, the values are not paired with
+     * their {@link Context}s, so no {@link Context} has to be determined for any of them. Wherever the occurrences
+     * reside in {@link java.util.List}s, {@link java.util.Map}s or {@link Set}s, the {@link Spliterator} is able to
+     * split for parallel processing.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param traversingMode
+     *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+     *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+     * @return
+     * 			A {@link Spliterator} of values, never null, might be empty
+     */
+    Spliterator<V> values(O object, Context context, TraversingMode traversingMode);
+
+    /**
+     * Passes the non-null values of all of this {@link Property}'s occurrences in the given object to the given
+     * consumer, each paired with the {@link PropertyReference} of the innermost referenced segment on the path to the
+     * occurrence, for example the {@link com.mantledillusion.data.epiphy.context.reference.PropertyIndex} of the
+     * {@link java.util.List} element the value resides in.
+     * <p>
+     * The values passed equal the ones of {@link #values(Object, Context, TraversingMode)} when traversing
+     * recursively, but no {@link Context} is determined for any of them.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param consumer
+     *          The consumer to pass the values to; might <b>not</b> be null.
+     */
+    void extract(O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer);
+
     /**
      * Returns a {@link Stream} of all of this {@link Property}'s values occurring in the given object.
      * <p>
@@ -544,8 +867,7 @@ public interface Property<O, V> {
      *          A {@link Stream} of values, never null, might be empty
      */
     default Stream<V> stream(O object) {
-        return contextualize(object).stream().
-                map(context -> get(object, context, true));
+        return stream(object, null);
     }
 
     /**
@@ -561,8 +883,25 @@ public interface Property<O, V> {
      *          A {@link Stream} of values, never null, might be empty
      */
     default Stream<V> stream(O object, Context context) {
-        return contextualize(object, context).stream().
-                map(ctx -> get(object, ctx, true));
+        return stream(object, context, false);
+    }
+
+    /**
+     * Returns a {@link Stream} of all of this {@link Property}'s values occurring in the given object.
+     * <p>
+     * The count of streamed values exactly matches the result of {@link #occurrences(Object)} on the same object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether the returned {@link Stream} is parallel.
+     * @return
+     *          A {@link Stream} of values, never null, might be empty
+     */
+    default Stream<V> stream(O object, Context context, boolean parallel) {
+        return StreamSupport.stream(values(object, context, TraversingMode.RECURSIVE), parallel);
     }
 
     /**
@@ -597,6 +936,10 @@ public interface Property<O, V> {
 
     /**
      * Returns the predecessor of the given value in the given object.
+     * <p>
+     * Values are compared by their identity while iterating over all occurrences in the given object. For the
+     * elements of a single {@link java.util.List}, {@link ModelPropertyList#predecessorOf(Object, Object, Context)} is able
+     * to look up the value's position using a {@link com.mantledillusion.data.epiphy.context.PositionIndex} instead.
      *
      * @param object
      *          The object to get the value from; might be null.
@@ -622,6 +965,10 @@ public interface Property<O, V> {
 
     /**
      * Returns the successor of the given value in the given object.
+     * <p>
+     * Values are compared by their identity while iterating over all occurrences in the given object. For the
+     * elements of a single {@link java.util.List}, {@link ModelPropertyList#successorOf(Object, Object, Context)} is able
+     * to look up the value's position using a {@link com.mantledillusion.data.epiphy.context.PositionIndex} instead.
      *
      * @param object
      *          The object to get the value from; might be null.
@@ -649,6 +996,357 @@ public interface Property<O, V> {
         }
     }
 
+    // ###########################################################################################################
+    // ############################################### EXTRACTING ################################################
+    // ###########################################################################################################
+
+    /**
+     * Extracts the non-null values of all of this {@link Property}'s occurrences in the given object into a column.
+     * <p>
+     * The column is filled in a single pass using {@link #extract(Object, Context, BiConsumer)} and grows as values
+     * are found, so the occurrences are not counted in a separate pass beforehand.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @return
+     *          A new {@link ObjectColumn}, never null, might be empty
+     */
+    default ObjectColumn<V> column(O object) {
+        return column(object, null);
+    }
+
+    /**
+     * Extracts the non-null values of all of this {@link Property}'s occurrences in the given object into a column.
+     * <p>
+     * The column is filled in a single pass using {@link #extract(Object, Context, BiConsumer)} and grows as values
+     * are found, so the occurrences are not counted in a separate pass beforehand.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @return
+     *          A new {@link ObjectColumn}, never null, might be empty
+     */
+    default ObjectColumn<V> column(O object, Context context) {
+        ObjectColumn<V> column = ObjectColumn.of(0);
+        extract(object, context, column);
+        return column;
+    }
+
+    // ###########################################################################################################
+    // ############################################### AGGREGATING ###############################################
+    // ###########################################################################################################
+
+    /**
+     * Counts the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to count the value occurrences in; might be null.
+     * @return
+     *          The count of values, always &gt;=0
+     */
+    default long count(O object) {
+        return count(object, null, false);
+    }
+
+    /**
+     * Counts the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to count the value occurrences in; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to count in parallel.
+     * @return
+     *          The count of values, always &gt;=0
+     */
+    default long count(O object, Context context, boolean parallel) {
+        return stream(object, context, parallel).count();
+    }
+
+    /**
+     * Determines the minimum of the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param comparator
+     *          The {@link Comparator} to compare values with; might <b>not</b> be null.
+     * @return
+     *          The minimum value, empty if there is no occurrence
+     */
+    default Optional<V> min(O object, Comparator<? super V> comparator) {
+        return min(object, null, false, comparator);
+    }
+
+    /**
+     * Determines the minimum of the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to determine the minimum in parallel.
+     * @param comparator
+     *          The {@link Comparator} to compare values with; might <b>not</b> be null.
+     * @return
+     *          The minimum value, empty if there is no occurrence
+     */
+    default Optional<V> min(O object, Context context, boolean parallel, Comparator<? super V> comparator) {
+        return stream(object, context, parallel).min(comparator);
+    }
+
+    /**
+     * Determines the maximum of the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param comparator
+     *          The {@link Comparator} to compare values with; might <b>not</b> be null.
+     * @return
+     *          The maximum value, empty if there is no occurrence
+     */
+    default Optional<V> max(O object, Comparator<? super V> comparator) {
+        return max(object, null, false, comparator);
+    }
+
+    /**
+     * Determines the maximum of the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to determine the maximum in parallel.
+     * @param comparator
+     *          The {@link Comparator} to compare values with; might <b>not</b> be null.
+     * @return
+     *          The maximum value, empty if there is no occurrence
+     */
+    default Optional<V> max(O object, Context context, boolean parallel, Comparator<? super V> comparator) {
+        return stream(object, context, parallel).max(comparator);
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param mapper
+     *          The {@link ToDoubleFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default double sum(O object, ToDoubleFunction<? super V> mapper) {
+        return sum(object, null, false, mapper);
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to sum up in parallel.
+     * @param mapper
+     *          The {@link ToDoubleFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default double sum(O object, Context context, boolean parallel, ToDoubleFunction<? super V> mapper) {
+        return stream(object, context, parallel).mapToDouble(mapper).sum();
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object as integers.
+     * <p>
+     * In contrast to {@link #sum(Object, ToDoubleFunction)}, the sum is exact; it overflows just like
+     * {@link IntStream#sum()} does.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param mapper
+     *          The {@link ToIntFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default int sumAsInt(O object, ToIntFunction<? super V> mapper) {
+        return sumAsInt(object, null, false, mapper);
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object as integers.
+     * <p>
+     * In contrast to {@link #sum(Object, Context, boolean, ToDoubleFunction)}, the sum is exact; it overflows just
+     * like {@link IntStream#sum()} does.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to sum up in parallel.
+     * @param mapper
+     *          The {@link ToIntFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default int sumAsInt(O object, Context context, boolean parallel, ToIntFunction<? super V> mapper) {
+        return stream(object, context, parallel).mapToInt(mapper).sum();
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object as longs.
+     * <p>
+     * In contrast to {@link #sum(Object, ToDoubleFunction)}, the sum is exact beyond 2^53; it overflows just like
+     * {@link LongStream#sum()} does.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param mapper
+     *          The {@link ToLongFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default long sumAsLong(O object, ToLongFunction<? super V> mapper) {
+        return sumAsLong(object, null, false, mapper);
+    }
+
+    /**
+     * Sums up the non-null values of all of this {@link Property}'s occurrences in the given object as longs.
+     * <p>
+     * In contrast to {@link #sum(Object, Context, boolean, ToDoubleFunction)}, the sum is exact beyond 2^53; it
+     * overflows just like {@link LongStream#sum()} does.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to sum up in parallel.
+     * @param mapper
+     *          The {@link ToLongFunction} to map values to the numbers to sum up; might <b>not</b> be null.
+     * @return
+     *          The sum, 0 if there is no occurrence
+     */
+    default long sumAsLong(O object, Context context, boolean parallel, ToLongFunction<? super V> mapper) {
+        return stream(object, context, parallel).mapToLong(mapper).sum();
+    }
+
+    /**
+     * Averages the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param mapper
+     *          The {@link ToDoubleFunction} to map values to the numbers to average; might <b>not</b> be null.
+     * @return
+     *          The average, empty if there is no occurrence
+     */
+    default OptionalDouble average(O object, ToDoubleFunction<? super V> mapper) {
+        return average(object, null, false, mapper);
+    }
+
+    /**
+     * Averages the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to average in parallel.
+     * @param mapper
+     *          The {@link ToDoubleFunction} to map values to the numbers to average; might <b>not</b> be null.
+     * @return
+     *          The average, empty if there is no occurrence
+     */
+    default OptionalDouble average(O object, Context context, boolean parallel, ToDoubleFunction<? super V> mapper) {
+        return stream(object, context, parallel).mapToDouble(mapper).average();
+    }
+
+    /**
+     * Reduces the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param accumulator
+     *          The associative {@link BinaryOperator} to combine two values with; might <b>not</b> be null.
+     * @return
+     *          The reduced value, empty if there is no occurrence
+     */
+    default Optional<V> reduce(O object, BinaryOperator<V> accumulator) {
+        return reduce(object, null, false, accumulator);
+    }
+
+    /**
+     * Reduces the non-null values of all of this {@link Property}'s occurrences in the given object.
+     *
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to reduce in parallel.
+     * @param accumulator
+     *          The associative {@link BinaryOperator} to combine two values with; might <b>not</b> be null.
+     * @return
+     *          The reduced value, empty if there is no occurrence
+     */
+    default Optional<V> reduce(O object, Context context, boolean parallel, BinaryOperator<V> accumulator) {
+        return stream(object, context, parallel).reduce(accumulator);
+    }
+
+    /**
+     * Folds the non-null values of all of this {@link Property}'s occurrences in the given object into a result.
+     *
+     * @param <R>
+     *          The result type.
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param identity
+     *          The identity of the combiner; might be null.
+     * @param accumulator
+     *          The {@link BiFunction} to fold a value into a result with; might <b>not</b> be null.
+     * @param combiner
+     *          The associative {@link BinaryOperator} to combine two results with; might <b>not</b> be null.
+     * @return
+     *          The folded result, the identity if there is no occurrence
+     */
+    default <R> R reduce(O object, R identity, BiFunction<R, ? super V, R> accumulator, BinaryOperator<R> combiner) {
+        return reduce(object, null, false, identity, accumulator, combiner);
+    }
+
+    /**
+     * Folds the non-null values of all of this {@link Property}'s occurrences in the given object into a result.
+     *
+     * @param <R>
+     *          The result type.
+     * @param object
+     * 			The instance to get the value occurrences from; might be null.
+     * @param context
+     *          The context to use as a base; might be null.
+     * @param parallel
+     *          Whether to fold in parallel, in which case the combiner is used to combine partial results.
+     * @param identity
+     *          The identity of the combiner; might be null.
+     * @param accumulator
+     *          The {@link BiFunction} to fold a value into a result with; might <b>not</b> be null.
+     * @param combiner
+     *          The associative {@link BinaryOperator} to combine two results with; might <b>not</b> be null.
+     * @return
+     *          The folded result, the identity if there is no occurrence
+     */
+    default <R> R reduce(O object, Context context, boolean parallel, R identity,
+                         BiFunction<R, ? super V, R> accumulator, BinaryOperator<R> combiner) {
+        return stream(object, context, parallel).reduce(identity, accumulator, combiner);
+    }
+
     // ###########################################################################################################
     // ################################################# MISC ####################################################
     // ###########################################################################################################
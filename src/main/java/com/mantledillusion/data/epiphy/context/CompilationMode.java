@@ -0,0 +1,25 @@
+package com.mantledillusion.data.epiphy.context;
+
+/**
+ * The mode of how to compile the path of a {@link com.mantledillusion.data.epiphy.Property} into a flat accessor.
+ */
+public enum CompilationMode {
+
+    /**
+     * Compile the path into a sequence of steps that are executed in a loop, one for every segment on the path.
+     */
+    STEPS,
+
+    /**
+     * Compile the path into a chain of {@link java.lang.invoke.MethodHandle}s, one for every segment on the path.
+     * <p>
+     * Every segment's getter is bound into the chain, so functions like the
+     * {@link com.mantledillusion.data.epiphy.Getter}s of {@link com.mantledillusion.data.epiphy.ModelProperty}s created
+     * from an object are invoked through their own part of the chain instead of through the call site that is shared
+     * by all getter implementations. The chain itself is held by the compiled
+     * {@link com.mantledillusion.data.epiphy.Property} and is not a JVM constant, so on short paths where that shared
+     * call site stays monomorphic, {@link #STEPS} is just as fast; the <code>CompilationBenchmark</code> of the
+     * benchmark module compares both modes by path depth.
+     */
+    METHOD_HANDLES
+}
@@ -1,5 +1,7 @@
 package com.mantledillusion.data.epiphy.context;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -15,6 +17,9 @@ import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
  * {@link Context} are basically a {@link Map} of {@link Property}-&gt;{@link PropertyReference} pairs, represented by
  * implementations of {@link PropertyReference}.
  * <p>
+ * Internally, {@link Context}s are layered on top of the {@link Context}s they are unionized from, so creating a union
+ * shares the references of its base instead of copying them.
+ * <p>
  * Note that two {@link Property}s are only considered equal when they are the exact same {@link Object} instance; as a
  * result, the {@link Property}s in {@link Context}s are used by their {@link Object} identity.
  */
@@ -23,12 +28,132 @@ public class Context {
 	/**
 	 * An empty {@link Context} instance without any references.
 	 */
-	public static final Context EMPTY = new Context();
+	public static final Context EMPTY = new Context(null, new PropertyReference<?, ?>[0]);
+
+	/*
+	 * The amount of layers a Context chain might grow to before it is compacted into a single layer; keeps the
+	 * lookup cost of long union chains bounded.
+	 */
+	private static final int MAX_DEPTH = 8;
+
+	private final Context base;
+	private final Property<?, ?>[] properties;
+	private final PropertyReference<?, ?>[] references;
+	private final int depth;
+	private final int size;
+
+	private int hash;
+	private volatile Map<Property<?, ?>, PropertyReference<?, ?>> keys;
+
+	private Context(Context base, PropertyReference<?, ?>[] references) {
+		this.base = base;
+		this.properties = new Property<?, ?>[references.length];
+		this.references = references;
+		for (int i = 0; i < references.length; i++) {
+			this.properties[i] = references[i].getProperty();
+		}
+		this.depth = base == null ? 1 : base.depth+1;
+		int size = base == null ? 0 : base.size;
+		for (PropertyReference<?, ?> reference: references) {
+			if (base == null || base.find(reference.getProperty()) == null) {
+				size++;
+			}
+		}
+		this.size = size;
+	}
 
-	private final Map<Property<?, ?>, PropertyReference<?, ?>> keys;
+	private PropertyReference<?, ?> find(Property<?, ?> property) {
+		for (Context layer = this; layer != null; layer = layer.base) {
+			Property<?, ?>[] properties = layer.properties;
+			for (int i = 0; i < properties.length; i++) {
+				if (properties[i] == property) {
+					return layer.references[i];
+				}
+			}
+		}
+		return null;
+	}
 
-	private Context() {
-		this.keys = new HashMap<>();
+	private Map<Property<?, ?>, PropertyReference<?, ?>> keys() {
+		Map<Property<?, ?>, PropertyReference<?, ?>> keys = this.keys;
+		if (keys == null) {
+			Context[] layers = new Context[this.depth];
+			Context layer = this;
+			for (int i = this.depth-1; i >= 0; i--) {
+				layers[i] = layer;
+				layer = layer.base;
+			}
+			keys = new HashMap<>();
+			for (Context l: layers) {
+				for (PropertyReference<?, ?> reference: l.references) {
+					keys.put(reference.getProperty(), reference);
+				}
+			}
+			this.keys = keys = Collections.unmodifiableMap(keys);
+		}
+		return keys;
+	}
+
+	private int entryHashSum() {
+		int hash = this.hash;
+		if (hash == 0 && this.size > 0) {
+			hash = this.base == null ? 0 : this.base.entryHashSum();
+			for (PropertyReference<?, ?> reference: this.references) {
+				PropertyReference<?, ?> shadowed = this.base == null ? null : this.base.find(reference.getProperty());
+				if (shadowed != null) {
+					hash -= entryHash(shadowed);
+				}
+				hash += entryHash(reference);
+			}
+			this.hash = hash;
+		}
+		return hash;
+	}
+
+	private static int entryHash(PropertyReference<?, ?> reference) {
+		return reference.getProperty().hashCode() ^ reference.hashCode();
+	}
+
+	private boolean isBasedOn(Context context) {
+		for (Context layer = this; layer != null; layer = layer.base) {
+			if (layer == context) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Context layer(PropertyReference<?, ?>[] references) {
+		if (references.length == 0) {
+			return this;
+		} else if (this == EMPTY) {
+			return new Context(null, references);
+		} else if (this.depth < MAX_DEPTH) {
+			return new Context(this, references);
+		} else {
+			Map<Property<?, ?>, PropertyReference<?, ?>> keys = new HashMap<>(keys());
+			for (PropertyReference<?, ?> reference: references) {
+				keys.put(reference.getProperty(), reference);
+			}
+			return new Context(null, keys.values().toArray(new PropertyReference<?, ?>[keys.size()]));
+		}
+	}
+
+	private static PropertyReference<?, ?>[] distinct(PropertyReference<?, ?>[] references) {
+		PropertyReference<?, ?>[] distinct = new PropertyReference<?, ?>[references.length];
+		int count = 0;
+		outer: for (PropertyReference<?, ?> reference: references) {
+			if (reference != null) {
+				for (int i = 0; i < count; i++) {
+					if (distinct[i].getProperty() == reference.getProperty()) {
+						distinct[i] = reference;
+						continue outer;
+					}
+				}
+				distinct[count++] = reference;
+			}
+		}
+		return count == distinct.length ? distinct : Arrays.copyOf(distinct, count);
 	}
 
 	/**
@@ -39,7 +164,7 @@ public class Context {
 	 * @return True if there is a reference, false otherwise
 	 */
 	public boolean containsReference(Property<?, ?> property) {
-		return this.keys.containsKey(property);
+		return find(property) != null;
 	}
 
 	/**
@@ -58,7 +183,30 @@ public class Context {
 		if (referenceType == null) {
 			throw new IllegalArgumentException("Cannot check the reference's type using a null type");
 		}
-		return this.keys.containsKey(property) && referenceType.isAssignableFrom(this.keys.get(property).getClass());
+		return referenceType.isInstance(find(property));
+	}
+
+	/**
+	 * Returns the {@link PropertyReference} contained by this {@link Context} for the given {@link Property} if it is
+	 * an instance of the given {@link PropertyReference} implementation {@link Class} type.
+	 * <p>
+	 * Equals a combination of {@link #containsReference(Property, Class)} and {@link #getReference(Property, Class)},
+	 * but only requires a single lookup.
+	 *
+	 * @param <R>
+	 * 			The {@link PropertyReference} implementation type.
+	 * @param property
+	 * 			The {@link Property}; might be null.
+	 * @param referenceType
+	 * 			The {@link PropertyReference} implementation {@link Class}; might <b>not</b> be null.
+	 * @return The reference, null if there is none or it is not of the given type
+	 */
+	public <R extends PropertyReference<?, ?>> R findReference(Property<?, ?> property, Class<R> referenceType) {
+		if (referenceType == null) {
+			throw new IllegalArgumentException("Cannot check the reference's type using a null type");
+		}
+		PropertyReference<?, ?> reference = find(property);
+		return referenceType.isInstance(reference) ? (R) reference : null;
 	}
 
 	/**
@@ -71,7 +219,7 @@ public class Context {
 	 * @return The reference, might be null
 	 */
 	public <R extends PropertyReference<?, ?>> R getReference(Property<?, ?> property) {
-		return (R) this.keys.get(property);
+		return (R) find(property);
 	}
 
 	/**
@@ -89,7 +237,7 @@ public class Context {
 		if (referenceType == null) {
 			throw new IllegalArgumentException("Cannot check the reference's type using a null type");
 		}
-		return referenceType.cast(this.keys.get(property));
+		return referenceType.cast(find(property));
 	}
 
 	/**
@@ -98,7 +246,7 @@ public class Context {
 	 * @return A new {@link Stream} instance, never null
 	 */
 	public Stream<? extends PropertyReference<?, ?>> stream() {
-		return this.keys.values().stream();
+		return keys().values().stream();
 	}
 
 	/**
@@ -107,11 +255,25 @@ public class Context {
 	 * @return A new {@link Iterator} instance, never null
 	 */
 	public Iterator<? extends PropertyReference<?, ?>> iterator() {
-		return this.keys.values().iterator();
+		return keys().values().iterator();
 	}
 
+	/**
+	 * Returns a {@link Context} containing the {@link PropertyReference}s of this {@link Context} as well as the given
+	 * ones.
+	 * <p>
+	 * If there is a {@link PropertyReference} in this {@link Context} for the same {@link Property} as one of the given
+	 * {@link PropertyReference}s, the given one is taken.
+	 * <p>
+	 * The returned {@link Context} shares this {@link Context}'s references instead of copying them, so the operation
+	 * only costs in relation to the amount of given {@link PropertyReference}s.
+	 *
+	 * @param references
+	 * 			The {@link PropertyReference}s to unionize with; might be null, empty or contain null values.
+	 * @return A {@link Context} instance, never null
+	 */
 	public Context union(PropertyReference<?, ?>... references) {
-		return union(Context.of(references));
+		return references == null ? this : layer(distinct(references));
 	}
 
 	/**
@@ -120,18 +282,22 @@ public class Context {
 	 * <p>
 	 * If there is a {@link PropertyReference} in both {@link Context}s for the same {@link Property}, the one of the
 	 * given {@link Context} is taken.
+	 * <p>
+	 * The returned {@link Context} shares the references of both {@link Context}s as far as possible; if the given
+	 * {@link Context} is a union based on this {@link Context}, it is returned as it is.
 	 *
 	 * @param other
 	 * 			The other {@link Context} to unionize with; might be null
-	 * @return A new {@link Context} instance, never null
+	 * @return A {@link Context} instance, never null
 	 */
 	public Context union(Context other) {
-		Context context = new Context();
-		context.keys.putAll(this.keys);
-		if (other != null) {
-			context.keys.putAll(other.keys);
+		if (other == null || other == EMPTY || other.isBasedOn(this)) {
+			return other == null || other == EMPTY ? this : other;
+		} else if (this == EMPTY) {
+			return other;
+		} else {
+			return layer(other.keys().values().toArray(new PropertyReference<?, ?>[other.size()]));
 		}
-		return context;
 	}
 
 	/**
@@ -140,14 +306,14 @@ public class Context {
 	 * @return The amount of references, never &lt;0
 	 */
 	public int size() {
-		return this.keys.size();
+		return this.size;
 	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + this.keys.hashCode();
+		result = prime * result + entryHashSum();
 		return result;
 	}
 
@@ -159,12 +325,24 @@ public class Context {
 			return false;
 		if (getClass() != obj.getClass())
 			return false;
-		return this.keys.equals(((Context) obj).keys);
+		Context other = (Context) obj;
+		if (this.size != other.size || entryHashSum() != other.entryHashSum()) {
+			return false;
+		}
+		for (Context layer = this; layer != null; layer = layer.base) {
+			for (PropertyReference<?, ?> reference: layer.references) {
+				if (find(reference.getProperty()) == reference
+						&& !reference.equals(other.find(reference.getProperty()))) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	@Override
 	public String toString() {
-		return "Context [propertyKeys=" + keys + "]";
+		return "Context [propertyKeys=" + keys() + "]";
 	}
 
 	/**
@@ -179,13 +357,8 @@ public class Context {
 		if (references == null || references.length == 0) {
 			return EMPTY;
 		} else {
-			Context context = new Context();
-			for (PropertyReference<?, ?> key : references) {
-				if (key != null) {
-					context.keys.put(key.getProperty(), key);
-				}
-			}
-			return context;
+			PropertyReference<?, ?>[] distinct = distinct(references);
+			return distinct.length == 0 ? EMPTY : new Context(null, distinct);
 		}
 	}
 
@@ -0,0 +1,166 @@
+package com.mantledillusion.data.epiphy.context;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Defines how work that is able to run in parallel is executed when contextualizing.
+ * <p>
+ * All getters in {@link com.mantledillusion.data.epiphy.context.io} that process collections follow the library-wide
+ * policy set using {@link #setDefault(ExecutionPolicy)}, which is {@link #SEQUENTIAL} unless set otherwise.
+ * <p>
+ * Instantiable using {@link #SEQUENTIAL} or {@link #parallel(ForkJoinPool, int)}.
+ */
+public final class ExecutionPolicy {
+
+    /**
+     * Executes all work sequentially on the calling thread.
+     */
+    public static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy(null, 0);
+
+    private static volatile ExecutionPolicy defaultPolicy = SEQUENTIAL;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ExecutionPolicy(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns whether this policy executes work in parallel.
+     *
+     * @return True if work is executed in parallel, false otherwise
+     */
+    public boolean isParallel() {
+        return this.pool != null;
+    }
+
+    /**
+     * Returns the {@link ForkJoinPool} this policy executes work in.
+     *
+     * @return The {@link ForkJoinPool}, might be null if this policy is {@link #SEQUENTIAL}
+     */
+    public ForkJoinPool getPool() {
+        return this.pool;
+    }
+
+    /**
+     * Returns the amount of pending work items a single task has to accumulate before it splits half of them off
+     * into another task.
+     *
+     * @return The threshold, always &gt;0 if this policy is parallel
+     */
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Returns whether this policy executes work on the given amount of items in parallel.
+     *
+     * @param size
+     *          The amount of items to process.
+     * @return True if this policy is parallel and the size exceeds its threshold, false otherwise
+     */
+    public boolean isParallel(int size) {
+        return this.pool != null && size > this.threshold;
+    }
+
+    /**
+     * Applies the given operation to a {@link Stream} of the given elements.
+     * <p>
+     * If the work is to be executed in parallel (see {@link #isParallel(int)}), the operation receives a parallel
+     * {@link Stream} and is executed in this policy's {@link ForkJoinPool}; otherwise it receives a sequential one
+     * and is executed on the calling thread.
+     *
+     * @param <E>
+     *            The element type.
+     * @param <R>
+     *            The result type.
+     * @param elements
+     *          The elements to process; might <b>not</b> be null.
+     * @param operation
+     *          The operation to apply; might <b>not</b> be null.
+     * @return The result of the operation
+     */
+    public <E, R> R process(Collection<E> elements, Function<Stream<E>, R> operation) {
+        if (isParallel(elements.size())) {
+            return this.pool.submit(() -> operation.apply(elements.parallelStream())).join();
+        }
+        return operation.apply(elements.stream());
+    }
+
+    /**
+     * Performs the given action for every index in the given range.
+     * <p>
+     * If the work is to be executed in parallel (see {@link #isParallel(int)}), the action is performed in this
+     * policy's {@link ForkJoinPool}; otherwise it is performed in ascending order on the calling thread.
+     *
+     * @param from
+     *          The first index, inclusive.
+     * @param to
+     *          The last index, exclusive.
+     * @param action
+     *          The action to perform; might <b>not</b> be null.
+     */
+    public void processRange(int from, int to, IntConsumer action) {
+        if (isParallel(to - from)) {
+            this.pool.submit(() -> IntStream.range(from, to).parallel().forEach(action)).join();
+        } else {
+            for (int i = from; i < to; i++) {
+                action.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.pool == null ? "SEQUENTIAL" : "PARALLEL(pool=" + this.pool + ", threshold=" + this.threshold + ')';
+    }
+
+    /**
+     * Factory method for a policy that executes work in parallel using the given {@link ForkJoinPool}.
+     *
+     * @param pool
+     *          The {@link ForkJoinPool} to execute work in; might <b>not</b> be null.
+     * @param threshold
+     *          The amount of pending work items a single task has to accumulate before it splits half of them off
+     *          into another task; has to be &gt;0.
+     * @return A new {@link ExecutionPolicy}, never null
+     */
+    public static ExecutionPolicy parallel(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Cannot execute in parallel using a null pool");
+        } else if (threshold < 1) {
+            throw new IllegalArgumentException("Cannot split work using a threshold < 1");
+        }
+        return new ExecutionPolicy(pool, threshold);
+    }
+
+    /**
+     * Returns the library-wide policy used by all getters that do not use a policy of their own.
+     *
+     * @return The default {@link ExecutionPolicy}, never null; {@link #SEQUENTIAL} unless set otherwise
+     */
+    public static ExecutionPolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * Sets the library-wide policy used by all getters that do not use a policy of their own.
+     *
+     * @param executionPolicy
+     *          The policy to use; might <b>not</b> be null.
+     */
+    public static void setDefault(ExecutionPolicy executionPolicy) {
+        if (executionPolicy == null) {
+            throw new IllegalArgumentException("Cannot execute using a null default execution policy");
+        }
+        defaultPolicy = executionPolicy;
+    }
+}
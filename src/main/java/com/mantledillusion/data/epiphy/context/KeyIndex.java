@@ -0,0 +1,124 @@
+package com.mantledillusion.data.epiphy.context;
+
+import java.util.*;
+
+/**
+ * Index mapping the values of a specific {@link Map} to the keys they are mapped by.
+ * <p>
+ * The index is built when a value is first looked up. Changes to the {@link Map} reported to the index keep it up to
+ * date without building it again. Changes that are not reported are detected when they affect a looked up value,
+ * causing the index to be built again.
+ * <p>
+ * Instantiable using {@link #of(Map)}.
+ *
+ * @param <K>
+ *            The key type.
+ * @param <V>
+ *            The value type.
+ */
+public final class KeyIndex<K, V> {
+
+    private final Map<K, V> map;
+    private Map<V, Set<K>> keys;
+
+    private KeyIndex(Map<K, V> map) {
+        this.map = map;
+    }
+
+    /**
+     * Returns the {@link Map} this index maps values of.
+     *
+     * @return The {@link Map}, never null
+     */
+    public Map<K, V> getMap() {
+        return this.map;
+    }
+
+    /**
+     * Returns the keys the given value is mapped by, compared using {@link Object#equals(Object)}.
+     *
+     * @param value
+     *          The value to look up; might be null.
+     * @return A new {@link Collection} of keys, never null, empty if the value is not in the {@link Map}
+     */
+    public synchronized Collection<K> lookup(V value) {
+        boolean rebuilt = false;
+        if (this.keys == null) {
+            build();
+            rebuilt = true;
+        }
+        Collection<K> valueKeys = verify(value);
+        if (valueKeys == null && !rebuilt) {
+            build();
+            valueKeys = verify(value);
+        }
+        return valueKeys == null ? new ArrayList<>() : valueKeys;
+    }
+
+    private void build() {
+        this.keys = new HashMap<>();
+        this.map.forEach((key, value) -> this.keys.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(key));
+    }
+
+    private Collection<K> verify(V value) {
+        Set<K> valueKeys = this.keys.get(value);
+        if (valueKeys == null) {
+            return null;
+        }
+        for (K key : valueKeys) {
+            if (!this.map.containsKey(key) || !Objects.equals(this.map.get(key), value)) {
+                return null;
+            }
+        }
+        return new ArrayList<>(valueKeys);
+    }
+
+    /**
+     * Reports that the value mapped by the given key has changed, either by being put, replaced or removed.
+     *
+     * @param key
+     *          The key whose mapping has changed; might be null.
+     * @param oldValue
+     *          The value mapped by the key before the change; might be null.
+     */
+    public synchronized void changed(K key, V oldValue) {
+        if (this.keys == null) {
+            return;
+        }
+        Set<K> oldKeys = this.keys.get(oldValue);
+        if (oldKeys != null) {
+            oldKeys.remove(key);
+            if (oldKeys.isEmpty()) {
+                this.keys.remove(oldValue);
+            }
+        }
+        if (this.map.containsKey(key)) {
+            this.keys.computeIfAbsent(this.map.get(key), v -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Forgets all indexed keys, causing the index to be rebuilt upon the next lookup.
+     */
+    public synchronized void clear() {
+        this.keys = null;
+    }
+
+    /**
+     * Factory method for an index of the given {@link Map}.
+     *
+     * @param <K>
+     *            The key type.
+     * @param <V>
+     *            The value type.
+     * @param map
+     *          The {@link Map} to index keys of; might <b>not</b> be null.
+     * @return A new {@link KeyIndex}, never null
+     */
+    public static <K, V> KeyIndex<K, V> of(Map<K, V> map) {
+        if (map == null) {
+            throw new IllegalArgumentException("Cannot create an index for a null map");
+        }
+        return new KeyIndex<>(map);
+    }
+}
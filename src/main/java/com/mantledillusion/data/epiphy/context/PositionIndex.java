@@ -0,0 +1,112 @@
+package com.mantledillusion.data.epiphy.context;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index memorizing the positions of the elements in a specific {@link List}, keyed by the elements' identity.
+ * <p>
+ * Positions are indexed lazily from the start of the {@link List} when an element is looked up. Changes to the
+ * {@link List} reported to the index only cause the positions behind the changed index to be indexed again, so
+ * appending and removing at the end of the {@link List} as well as looking up elements in front of a change keep
+ * being constant in time. Changes that are not reported are detected when they affect a looked up element, causing
+ * the {@link List} to be indexed again.
+ * <p>
+ * Instantiable using {@link #of(List)}.
+ *
+ * @param <E>
+ *            The element type.
+ */
+public final class PositionIndex<E> {
+
+    private final List<E> list;
+    private final Map<E, Integer> positions = new IdentityHashMap<>();
+    private int fence;
+
+    private PositionIndex(List<E> list) {
+        this.list = list;
+    }
+
+    /**
+     * Returns the {@link List} this index memorizes positions in.
+     *
+     * @return The {@link List}, never null
+     */
+    public List<E> getList() {
+        return this.list;
+    }
+
+    /**
+     * Returns the position of the given element.
+     *
+     * @param element
+     *          The element to look up; might be null.
+     * @return The position of the element, -1 if the element is not in the {@link List}
+     */
+    public synchronized int lookup(E element) {
+        Integer position = this.positions.get(element);
+        if (position != null && position < this.fence) {
+            if (position < this.list.size() && this.list.get(position) == element) {
+                return position;
+            }
+            this.fence = 0;
+        }
+        int start = Math.min(this.fence, this.list.size());
+        int found = scan(start, element);
+        if (found < 0 && start > 0) {
+            found = scan(0, element);
+        }
+        return found;
+    }
+
+    private int scan(int start, E element) {
+        this.fence = start;
+        while (this.fence < this.list.size()) {
+            int index = this.fence++;
+            E indexed = this.list.get(index);
+            Integer existing = this.positions.get(indexed);
+            if (existing == null || existing >= index || this.list.get(existing) != indexed) {
+                this.positions.put(indexed, index);
+            }
+            if (indexed == element) {
+                return this.positions.get(indexed);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reports that an element has been inserted into or removed from the {@link List} at the given index.
+     *
+     * @param index
+     *          The index of the change; has to be &gt;=0.
+     */
+    public synchronized void changed(int index) {
+        this.fence = Math.min(this.fence, index);
+    }
+
+    /**
+     * Forgets all indexed positions.
+     */
+    public synchronized void clear() {
+        this.positions.clear();
+        this.fence = 0;
+    }
+
+    /**
+     * Factory method for an index of the given {@link List}.
+     *
+     * @param <E>
+     *            The element type.
+     * @param list
+     *          The {@link List} to index positions in; might <b>not</b> be null.
+     * @return A new {@link PositionIndex}, never null
+     */
+    public static <E> PositionIndex<E> of(List<E> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("Cannot create an index for a null list");
+        }
+        return new PositionIndex<>(list);
+    }
+}
@@ -0,0 +1,230 @@
+package com.mantledillusion.data.epiphy.context;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
+import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+
+/**
+ * The outcome of trying to retrieve a {@link Property}'s value; either the value itself or the reason why the
+ * {@link Property}'s path could not be followed.
+ * <p>
+ * In contrast to retrieving a value directly, a failed resolution does not cause any exception to be created, which
+ * makes it the cheaper choice when probing paths that are expected to fail frequently.
+ *
+ * @param <V>
+ *            The value type.
+ */
+public final class Resolution<V> {
+
+    /**
+     * The reasons why a {@link Property}'s path could not be followed.
+     */
+    public enum Failure {
+
+        /**
+         * A segment's object was null; equals an {@link InterruptedPropertyPathException}.
+         */
+        INTERRUPTED,
+
+        /**
+         * A segment required a {@link PropertyReference} that was not provided; equals an
+         * {@link UnreferencedPropertyPathException}.
+         */
+        UNREFERENCED,
+
+        /**
+         * A segment's {@link PropertyReference} did not match its object's bounds; equals an
+         * {@link OutboundPropertyPathException}.
+         */
+        OUTBOUND
+    }
+
+    private static final Resolution<?> NULL = new Resolution<>(null, null, null, null);
+
+    private final V value;
+    private final Failure failure;
+    private final Property<?, ?> segment;
+    private final PropertyReference<?, ?> reference;
+
+    private Resolution(V value, Failure failure, Property<?, ?> segment, PropertyReference<?, ?> reference) {
+        this.value = value;
+        this.failure = failure;
+        this.segment = segment;
+        this.reference = reference;
+    }
+
+    /**
+     * Returns whether the value could be retrieved.
+     *
+     * @return True if the {@link Property}'s path could be followed, false otherwise
+     */
+    public boolean isResolved() {
+        return this.failure == null;
+    }
+
+    /**
+     * Returns the retrieved value.
+     *
+     * @return The value, might be null if the value is null or the resolution failed
+     */
+    public V getValue() {
+        return this.value;
+    }
+
+    /**
+     * Returns the reason why the value could not be retrieved.
+     *
+     * @return The {@link Failure}, might be null if the resolution succeeded
+     */
+    public Failure getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Returns the segment of the {@link Property}'s path that could not be followed.
+     *
+     * @return The failing {@link Property}, might be null if the resolution succeeded
+     */
+    public Property<?, ?> getSegment() {
+        return this.segment;
+    }
+
+    /**
+     * Returns the {@link PropertyReference} that did not match its object's bounds.
+     *
+     * @return The {@link PropertyReference}, might be null if the resolution did not fail with {@link Failure#OUTBOUND}
+     */
+    public PropertyReference<?, ?> getReference() {
+        return this.reference;
+    }
+
+    /**
+     * Returns the retrieved value or the given fallback if the value could not be retrieved.
+     *
+     * @param other
+     *          The fallback value; might be null.
+     * @return The value if resolved, the fallback otherwise
+     */
+    public V orElse(V other) {
+        return this.failure == null ? this.value : other;
+    }
+
+    /**
+     * Returns the retrieved value or throws the exception equivalent to the reason why it could not be retrieved.
+     *
+     * @return The value, might be null
+     * @throws InterruptedPropertyPathException
+     *          If the resolution failed with {@link Failure#INTERRUPTED}.
+     * @throws UnreferencedPropertyPathException
+     *          If the resolution failed with {@link Failure#UNREFERENCED}.
+     * @throws OutboundPropertyPathException
+     *          If the resolution failed with {@link Failure#OUTBOUND}.
+     */
+    public V orElseThrow() throws InterruptedPropertyPathException, UnreferencedPropertyPathException,
+            OutboundPropertyPathException {
+        if (this.failure == null) {
+            return this.value;
+        }
+        switch (this.failure) {
+            case INTERRUPTED:
+                throw PropertyPathExceptions.interrupted(this.segment);
+            case UNREFERENCED:
+                throw PropertyPathExceptions.unreferenced(this.segment);
+            default:
+                throw PropertyPathExceptions.outbound(this.segment, this.reference);
+        }
+    }
+
+    /**
+     * Returns this resolution's failure for a different value type.
+     *
+     * @param <T>
+     *            The value type.
+     * @return This {@link Resolution}, never null
+     * @throws IllegalStateException
+     *          If this resolution succeeded.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Resolution<T> propagate() {
+        if (this.failure == null) {
+            throw new IllegalStateException("Cannot propagate the failure of a succeeded resolution");
+        }
+        return (Resolution<T>) this;
+    }
+
+    @Override
+    public String toString() {
+        return this.failure == null ? "RESOLVED(" + this.value + ')' : this.failure + "(segment=" + this.segment +
+                (this.reference == null ? "" : ", reference=" + this.reference) + ')';
+    }
+
+    /**
+     * Factory method for a succeeded resolution.
+     *
+     * @param <V>
+     *            The value type.
+     * @param value
+     *          The retrieved value; might be null.
+     * @return A {@link Resolution}, never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Resolution<V> of(V value) {
+        return value == null ? (Resolution<V>) NULL : new Resolution<>(value, null, null, null);
+    }
+
+    /**
+     * Factory method for a resolution that failed because the object of the given {@link Property} was null.
+     *
+     * @param <V>
+     *            The value type.
+     * @param segment
+     *          The failing {@link Property}; might <b>not</b> be null.
+     * @return A new {@link Resolution}, never null
+     */
+    public static <V> Resolution<V> interrupted(Property<?, ?> segment) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Cannot create a failed resolution for a null segment");
+        }
+        return new Resolution<>(null, Failure.INTERRUPTED, segment, null);
+    }
+
+    /**
+     * Factory method for a resolution that failed because the given {@link Property} was not referenced.
+     *
+     * @param <V>
+     *            The value type.
+     * @param segment
+     *          The failing {@link Property}; might <b>not</b> be null.
+     * @return A new {@link Resolution}, never null
+     */
+    public static <V> Resolution<V> unreferenced(Property<?, ?> segment) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Cannot create a failed resolution for a null segment");
+        }
+        return new Resolution<>(null, Failure.UNREFERENCED, segment, null);
+    }
+
+    /**
+     * Factory method for a resolution that failed because the given {@link Property}'s {@link PropertyReference} did
+     * not match its object's bounds.
+     *
+     * @param <V>
+     *            The value type.
+     * @param segment
+     *          The failing {@link Property}; might <b>not</b> be null.
+     * @param reference
+     *          The out of bounds {@link PropertyReference}; might <b>not</b> be null.
+     * @return A new {@link Resolution}, never null
+     */
+    public static <V> Resolution<V> outbound(Property<?, ?> segment, PropertyReference<?, ?> reference) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Cannot create a failed resolution for a null segment");
+        } else if (reference == null) {
+            throw new IllegalArgumentException("Cannot create a failed resolution for a null reference");
+        }
+        return new Resolution<>(null, Failure.OUTBOUND, segment, reference);
+    }
+}
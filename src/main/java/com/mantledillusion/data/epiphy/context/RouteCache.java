@@ -0,0 +1,124 @@
+package com.mantledillusion.data.epiphy.context;
+
+import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache memorizing the node reached by following a {@link PropertyRoute} from a specific root node.
+ * <p>
+ * Entries are kept by the identity of the root node and the {@link PropertyRoute}; when the cache is full, the least
+ * recently used entry is evicted. Root nodes and memorized nodes are strongly referenced until their entry is evicted
+ * or the cache is cleared.
+ * <p>
+ * Instantiable using {@link #of(int)}.
+ */
+public final class RouteCache {
+
+    private static final class RouteKey {
+
+        private final Object root;
+        private final PropertyRoute route;
+
+        private RouteKey(Object root, PropertyRoute route) {
+            this.root = root;
+            this.route = route;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.root) + this.route.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null || getClass() != obj.getClass())
+                return false;
+            RouteKey other = (RouteKey) obj;
+            return this.root == other.root && this.route.equals(other.route);
+        }
+    }
+
+    private final int capacity;
+    private final Map<RouteKey, Object> nodes;
+
+    private RouteCache(int capacity) {
+        this.capacity = capacity;
+        this.nodes = new LinkedHashMap<RouteKey, Object>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RouteKey, Object> eldest) {
+                return size() > RouteCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum amount of routes this cache memorizes.
+     *
+     * @return The capacity, always &gt;0
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the node memorized for the given root node and {@link PropertyRoute}.
+     *
+     * @param root
+     *          The root node the route starts at; might <b>not</b> be null.
+     * @param route
+     *          The route to the node; might <b>not</b> be null.
+     * @return The memorized node, null if there is none
+     */
+    public synchronized Object lookup(Object root, PropertyRoute route) {
+        return this.nodes.get(new RouteKey(root, route));
+    }
+
+    /**
+     * Memorizes the given node as the one reached by following the given {@link PropertyRoute} from the given root.
+     *
+     * @param root
+     *          The root node the route starts at; might <b>not</b> be null.
+     * @param route
+     *          The route to the node; might <b>not</b> be null.
+     * @param node
+     *          The node reached; might <b>not</b> be null.
+     */
+    public synchronized void store(Object root, PropertyRoute route, Object node) {
+        this.nodes.put(new RouteKey(root, route), node);
+    }
+
+    /**
+     * Forgets all memorized nodes.
+     */
+    public synchronized void clear() {
+        this.nodes.clear();
+    }
+
+    /**
+     * Returns the amount of currently memorized nodes.
+     *
+     * @return The size, always &gt;=0
+     */
+    public synchronized int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Factory method for a new, empty {@link RouteCache}.
+     *
+     * @param capacity
+     *          The maximum amount of routes the cache memorizes; has to be &gt;0.
+     * @return A new {@link RouteCache}, never null
+     */
+    public static RouteCache of(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cannot create a route cache with a capacity < 1");
+        }
+        return new RouteCache(capacity);
+    }
+}
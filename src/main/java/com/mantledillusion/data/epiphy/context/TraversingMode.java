@@ -8,24 +8,34 @@ public enum TraversingMode {
     /**
      * Only context the parents at the base context when contextualizing.
      */
-    PARENT(true, false),
+    PARENT(true, false, false, false),
 
     /**
      * Only context the children of the parents at the base context when contextualizing.
      */
-    CHILD(false, true),
+    CHILD(false, true, false, false),
 
     /**
      * Context the parents, the children and the children's children recursively from the base context when contextualizing.
      */
-    RECURSIVE(true, true);
+    RECURSIVE(true, true, true, false),
+
+    /**
+     * Context the parents, the children and the children's children recursively from the base context when contextualizing,
+     * but level by level, so all children of one level are contexted before any child of the next deeper level.
+     */
+    RECURSIVE_BREADTH_FIRST(true, true, true, true);
 
     private final boolean includeParent;
     private final boolean includeChildren;
+    private final boolean recursive;
+    private final boolean breadthFirst;
 
-    TraversingMode(boolean includeParent, boolean includeChildren) {
+    TraversingMode(boolean includeParent, boolean includeChildren, boolean recursive, boolean breadthFirst) {
         this.includeParent = includeParent;
         this.includeChildren = includeChildren;
+        this.recursive = recursive;
+        this.breadthFirst = breadthFirst;
     }
 
     /**
@@ -45,4 +55,23 @@ public enum TraversingMode {
     public boolean isIncludeChildren() {
         return includeChildren;
     }
+
+    /**
+     * Returns whether the children's children are included recursively in this mode.
+     *
+     * @return True if children are included recursively, false otherwise.
+     */
+    public boolean isRecursive() {
+        return recursive;
+    }
+
+    /**
+     * Returns whether children are traversed level by level in this mode, instead of descending into a child's
+     * children before continuing with the child's siblings.
+     *
+     * @return True if children are traversed breadth first, false otherwise.
+     */
+    public boolean isBreadthFirst() {
+        return breadthFirst;
+    }
 }
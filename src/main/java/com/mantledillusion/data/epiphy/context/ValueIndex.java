@@ -0,0 +1,170 @@
+package com.mantledillusion.data.epiphy.context;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+
+import java.util.*;
+
+/**
+ * Index mapping the values of a {@link Property}'s occurrences in a specific root object to the {@link Context}s they
+ * occur at.
+ * <p>
+ * The index is built when it is first looked up and maintained by all values written through the {@link Property}
+ * it is assigned to. Changes made to the root object in any other way, for example by adding elements using a
+ * parent {@link Property}, are not tracked; the index has to be {@link #clear()}ed after such changes to be rebuilt.
+ * The root object is strongly referenced for the lifetime of the index.
+ * <p>
+ * Instantiable using {@link #of(Object)} or {@link #ofIdentity(Object)}.
+ *
+ * @param <O>
+ *            The root object type.
+ * @param <V>
+ *            The value type.
+ */
+public final class ValueIndex<O, V> {
+
+    private final O root;
+    private final boolean identity;
+    private Map<V, Set<Context>> contexts;
+
+    private ValueIndex(O root, boolean identity) {
+        this.root = root;
+        this.identity = identity;
+    }
+
+    /**
+     * Returns the root object this index maps values in.
+     *
+     * @return The root object, never null
+     */
+    public O getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Returns whether values are compared by their identity instead of {@link Object#equals(Object)}.
+     *
+     * @return True if values are compared by identity, false otherwise
+     */
+    public boolean isIdentity() {
+        return this.identity;
+    }
+
+    /**
+     * Returns whether this index has been built and not been cleared since.
+     *
+     * @return True if this index is built, false otherwise
+     */
+    public synchronized boolean isBuilt() {
+        return this.contexts != null;
+    }
+
+    /**
+     * Builds this index from the given occurrences, replacing all currently indexed ones.
+     *
+     * @param occurrences
+     *          The occurrences of the {@link Property} in the root object, including those whose values are null;
+     *          might <b>not</b> be null.
+     */
+    public synchronized void build(Spliterator<ReferencedValue<Context, V>> occurrences) {
+        if (occurrences == null) {
+            throw new IllegalArgumentException("Cannot build an index from null occurrences");
+        }
+        this.contexts = this.identity ? new IdentityHashMap<>() : new HashMap<>();
+        occurrences.forEachRemaining(occurrence -> this.contexts.
+                computeIfAbsent(occurrence.getValue(), value -> new LinkedHashSet<>()).add(occurrence.getReference()));
+    }
+
+    /**
+     * Returns the {@link Context}s the given value occurs at.
+     *
+     * @param value
+     *          The value to look up; might be null.
+     * @return A new {@link Collection} of {@link Context}s, null if this index is not built
+     */
+    public synchronized Collection<Context> lookup(V value) {
+        if (this.contexts == null) {
+            return null;
+        }
+        Set<Context> valueContexts = this.contexts.get(value);
+        return valueContexts == null ? new ArrayList<>() : new ArrayList<>(valueContexts);
+    }
+
+    /**
+     * Moves the occurrence at the given {@link Context} from its old value to its new value.
+     * <p>
+     * The given {@link Context} may contain more {@link PropertyReference}s than the indexed one; the indexed
+     * {@link Context} of the old value whose references are all contained by the given one is moved. If there is
+     * none, this index is cleared.
+     *
+     * @param context
+     *          The {@link Context} the value has been written at; might <b>not</b> be null.
+     * @param oldValue
+     *          The value before writing; might be null.
+     * @param newValue
+     *          The value after writing; might be null.
+     */
+    public synchronized void update(Context context, V oldValue, V newValue) {
+        if (this.contexts == null) {
+            return;
+        }
+        Set<Context> oldContexts = this.contexts.get(oldValue);
+        Context indexed = oldContexts == null ? null : oldContexts.stream().
+                filter(candidate -> candidate.stream().allMatch(reference -> reference.equals(context.getReference(reference.getProperty())))).
+                findFirst().
+                orElse(null);
+        if (indexed == null) {
+            this.contexts = null;
+            return;
+        }
+        oldContexts.remove(indexed);
+        if (oldContexts.isEmpty()) {
+            this.contexts.remove(oldValue);
+        }
+        this.contexts.computeIfAbsent(newValue, value -> new LinkedHashSet<>()).add(indexed);
+    }
+
+    /**
+     * Forgets all indexed occurrences, causing the index to be rebuilt upon the next lookup.
+     */
+    public synchronized void clear() {
+        this.contexts = null;
+    }
+
+    /**
+     * Factory method for an index comparing values using {@link Object#equals(Object)}.
+     *
+     * @param <O>
+     *            The root object type.
+     * @param <V>
+     *            The value type.
+     * @param root
+     *          The root object to index values in; might <b>not</b> be null.
+     * @return A new, unbuilt {@link ValueIndex}, never null
+     */
+    public static <O, V> ValueIndex<O, V> of(O root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Cannot create an index for a null root object");
+        }
+        return new ValueIndex<>(root, false);
+    }
+
+    /**
+     * Factory method for an index comparing values by their identity.
+     *
+     * @param <O>
+     *            The root object type.
+     * @param <V>
+     *            The value type.
+     * @param root
+     *          The root object to index values in; might <b>not</b> be null.
+     * @return A new, unbuilt {@link ValueIndex}, never null
+     */
+    public static <O, V> ValueIndex<O, V> ofIdentity(O root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Cannot create an index for a null root object");
+        }
+        return new ValueIndex<>(root, true);
+    }
+}
@@ -0,0 +1,97 @@
+package com.mantledillusion.data.epiphy.context.column;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Base type for columns of a {@link Property}'s values, where every value is paired with the
+ * {@link PropertyReference} of the innermost referenced segment of the path it has been found at.
+ * <p>
+ * Columns grow as values are appended; their arrays are only copied when retrieving them if the column's capacity
+ * exceeds its size.
+ *
+ * @param <A>
+ *            The array type the values are held in.
+ */
+public abstract class AbstractColumn<A> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final IntFunction<A> allocator;
+    private PropertyReference<?, ?>[] references;
+    private int size;
+    A values;
+
+    AbstractColumn(int capacity, IntFunction<A> allocator) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Cannot create a column with a capacity < 0");
+        }
+        this.allocator = allocator;
+        this.references = new PropertyReference<?, ?>[capacity];
+        this.values = allocator.apply(capacity);
+    }
+
+    /**
+     * Returns the amount of values in this column.
+     *
+     * @return The size, always &gt;=0
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the {@link PropertyReference} of the value at the given row.
+     *
+     * @param row
+     *          The row of the value; has to be &gt;=0 and &lt;{@link #size()}.
+     * @return The {@link PropertyReference}, might be null if the value's path contains no referenced segment
+     */
+    public PropertyReference<?, ?> getReference(int row) {
+        checkRow(row);
+        return this.references[row];
+    }
+
+    /**
+     * Returns the {@link PropertyReference}s of all values in this column.
+     *
+     * @return The {@link PropertyReference}s in row order, never null, might contain nulls
+     */
+    public PropertyReference<?, ?>[] getReferences() {
+        return this.references.length == this.size ? this.references : Arrays.copyOf(this.references, this.size);
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException("Row " + row + " is out of the column's bounds [0," + this.size + ')');
+        }
+    }
+
+    int append(PropertyReference<?, ?> reference) {
+        if (this.size == this.references.length) {
+            int capacity = Math.max(MIN_CAPACITY, this.size * 2);
+            this.references = Arrays.copyOf(this.references, capacity);
+            this.values = copyValues(capacity);
+        }
+        this.references[this.size] = reference;
+        return this.size++;
+    }
+
+    A trimValues() {
+        return this.references.length == this.size ? this.values : copyValues(this.size);
+    }
+
+    private A copyValues(int length) {
+        A values = this.allocator.apply(length);
+        System.arraycopy(this.values, 0, values, 0, this.size);
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(size=" + this.size + ')';
+    }
+}
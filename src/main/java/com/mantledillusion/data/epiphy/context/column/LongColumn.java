@@ -0,0 +1,63 @@
+package com.mantledillusion.data.epiphy.context.column;
+
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Column of a {@link com.mantledillusion.data.epiphy.Property}'s primitive {@code long} values.
+ * <p>
+ * Instantiable using {@link #of(int)}.
+ */
+public final class LongColumn extends AbstractColumn<long[]> implements ObjLongConsumer<PropertyReference<?, ?>> {
+
+    private LongColumn(int capacity) {
+        super(capacity, long[]::new);
+    }
+
+    /**
+     * Appends the given value to this column.
+     *
+     * @param reference
+     *          The {@link PropertyReference} the value has been found at; might be null.
+     * @param value
+     *          The value to append.
+     */
+    @Override
+    public void accept(PropertyReference<?, ?> reference, long value) {
+        int row = append(reference);
+        this.values[row] = value;
+    }
+
+    /**
+     * Returns the value at the given row.
+     *
+     * @param row
+     *          The row of the value; has to be &gt;=0 and &lt;{@link #size()}.
+     * @return The value
+     */
+    public long get(int row) {
+        checkRow(row);
+        return this.values[row];
+    }
+
+    /**
+     * Returns all values in this column.
+     *
+     * @return The values in row order, never null
+     */
+    public long[] getValues() {
+        return trimValues();
+    }
+
+    /**
+     * Factory method for an empty column.
+     *
+     * @param capacity
+     *          The amount of values the column is able to hold before growing; has to be &gt;=0.
+     * @return A new {@link LongColumn}, never null
+     */
+    public static LongColumn of(int capacity) {
+        return new LongColumn(capacity);
+    }
+}
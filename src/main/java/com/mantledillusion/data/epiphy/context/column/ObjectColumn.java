@@ -0,0 +1,69 @@
+package com.mantledillusion.data.epiphy.context.column;
+
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Column of a {@link com.mantledillusion.data.epiphy.Property}'s values.
+ * <p>
+ * Instantiable using {@link #of(int)}.
+ *
+ * @param <V>
+ *            The value type.
+ */
+public final class ObjectColumn<V> extends AbstractColumn<Object[]> implements BiConsumer<PropertyReference<?, ?>, V> {
+
+    private ObjectColumn(int capacity) {
+        super(capacity, Object[]::new);
+    }
+
+    /**
+     * Appends the given value to this column.
+     *
+     * @param reference
+     *          The {@link PropertyReference} the value has been found at; might be null.
+     * @param value
+     *          The value to append; might be null.
+     */
+    @Override
+    public void accept(PropertyReference<?, ?> reference, V value) {
+        int row = append(reference);
+        this.values[row] = value;
+    }
+
+    /**
+     * Returns the value at the given row.
+     *
+     * @param row
+     *          The row of the value; has to be &gt;=0 and &lt;{@link #size()}.
+     * @return The value, might be null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int row) {
+        checkRow(row);
+        return (V) this.values[row];
+    }
+
+    /**
+     * Returns all values in this column.
+     *
+     * @return The values in row order, never null
+     */
+    public Object[] getValues() {
+        return trimValues();
+    }
+
+    /**
+     * Factory method for an empty column.
+     *
+     * @param <V>
+     *            The value type.
+     * @param capacity
+     *          The amount of values the column is able to hold before growing; has to be &gt;=0.
+     * @return A new {@link ObjectColumn}, never null
+     */
+    public static <V> ObjectColumn<V> of(int capacity) {
+        return new ObjectColumn<>(capacity);
+    }
+}
@@ -0,0 +1,133 @@
+package com.mantledillusion.data.epiphy.context.io;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class BatchReferencedGetter<O> {
+
+    private final Property<?, ?>[] properties;
+    private final ReferencedGetter<?, ?>[] getters;
+    private final int[] parents;
+    private final int[] leafs;
+
+    private BatchReferencedGetter(Property<?, ?>[] properties, ReferencedGetter<?, ?>[] getters, int[] parents, int[] leafs) {
+        this.properties = properties;
+        this.getters = getters;
+        this.parents = parents;
+        this.leafs = leafs;
+    }
+
+    /**
+     * Returns the amount of distinct path segments this {@link BatchReferencedGetter} evaluates per object.
+     *
+     * @return The segment count, always &gt;0
+     */
+    public int getSegmentCount() {
+        return this.properties.length;
+    }
+
+    /**
+     * Returns the amount of values this {@link BatchReferencedGetter} retrieves per object.
+     *
+     * @return The value count, always &gt;0
+     */
+    public int getValueCount() {
+        return this.leafs.length;
+    }
+
+    /**
+     * Retrieves the values of all batched {@link Property}s from the given object.
+     * <p>
+     * Every path segment shared by multiple {@link Property}s is evaluated once.
+     *
+     * @param object
+     *          The object to retrieve the values from; might be null.
+     * @param context
+     *          The {@link Context} to retrieve the values with; might <b>not</b> be null.
+     * @param allowNull
+     *          Whether to allow the paths to be interrupted by null values.
+     * @return A new array of the values, in the order the {@link Property}s were batched in, never null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object[] get(O object, Context context, boolean allowNull) {
+        Object[] segments = new Object[this.properties.length];
+        for (int i = 0; i < this.properties.length; i++) {
+            Object current = this.parents[i] < 0 ? object : segments[this.parents[i]];
+            ReferencedGetter stepGetter = this.getters[i];
+            Property stepProperty = this.properties[i];
+            segments[i] = stepGetter == null ? stepProperty.get(current, context, allowNull) :
+                    stepGetter.get(stepProperty, current, context, allowNull);
+        }
+        Object[] values = new Object[this.leafs.length];
+        for (int i = 0; i < this.leafs.length; i++) {
+            values[i] = segments[this.leafs[i]];
+        }
+        return values;
+    }
+
+    /**
+     * Compiles the given {@link Property}s into a tree of steps, one for every distinct segment on their paths.
+     * <p>
+     * Segments are shared between the {@link Property}s if they equal in both the segment {@link Property} and its
+     * {@link ReferencedGetter} and all of their preceding segments are shared as well.
+     *
+     * @param <O>
+     *          The object type.
+     * @param properties
+     *          The {@link Property}s to compile; might <b>not</b> be null or empty, might <b>not</b> contain nulls.
+     * @param getterResolver
+     *          A {@link Function} able to resolve the {@link ReferencedGetter} of a {@link Property} and its parents;
+     *          might <b>not</b> be null, might return null if a {@link Property}'s getter is unknown.
+     * @return A new {@link BatchReferencedGetter}, never null
+     */
+    public static <O> BatchReferencedGetter<O> from(List<? extends Property<O, ?>> properties,
+                                                    Function<Property<?, ?>, ReferencedGetter<?, ?>> getterResolver) {
+        if (properties == null || properties.isEmpty()) {
+            throw new IllegalArgumentException("Cannot batch a null or empty list of properties");
+        } else if (getterResolver == null) {
+            throw new IllegalArgumentException("Cannot batch properties using a null getter resolver");
+        }
+        List<Property<?, ?>> segmentProperties = new ArrayList<>();
+        List<ReferencedGetter<?, ?>> segmentGetters = new ArrayList<>();
+        List<Integer> segmentParents = new ArrayList<>();
+        int[] leafs = new int[properties.size()];
+        for (int p = 0; p < properties.size(); p++) {
+            Property<O, ?> property = properties.get(p);
+            if (property == null) {
+                throw new IllegalArgumentException("Cannot batch a null property");
+            }
+            List<Property<?, ?>> stepProperties = new ArrayList<>();
+            List<ReferencedGetter<?, ?>> stepGetters = new ArrayList<>();
+            CompiledReferencedGetter.flatten(property, getterResolver.apply(property), getterResolver,
+                    stepProperties, stepGetters);
+
+            int parent = -1;
+            for (int s = 0; s < stepProperties.size(); s++) {
+                int segment = -1;
+                for (int i = parent + 1; i < segmentProperties.size(); i++) {
+                    if (segmentParents.get(i) == parent && segmentProperties.get(i) == stepProperties.get(s)
+                            && segmentGetters.get(i) == stepGetters.get(s)) {
+                        segment = i;
+                        break;
+                    }
+                }
+                if (segment < 0) {
+                    segment = segmentProperties.size();
+                    segmentProperties.add(stepProperties.get(s));
+                    segmentGetters.add(stepGetters.get(s));
+                    segmentParents.add(parent);
+                }
+                parent = segment;
+            }
+            leafs[p] = parent;
+        }
+        return new BatchReferencedGetter<>(
+                segmentProperties.toArray(new Property<?, ?>[segmentProperties.size()]),
+                segmentGetters.toArray(new ReferencedGetter<?, ?>[segmentGetters.size()]),
+                segmentParents.stream().mapToInt(Integer::intValue).toArray(), leafs);
+    }
+}
@@ -0,0 +1,162 @@
+package com.mantledillusion.data.epiphy.context.io;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
+import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public class CompiledReferencedGetter<O, V> implements ReferencedGetter<O, V> {
+
+    private final Property<O, V> property;
+    private final ReferencedGetter<O, V> getter;
+    private final Property<?, ?>[] properties;
+    private final ReferencedGetter<?, ?>[] getters;
+
+    CompiledReferencedGetter(Property<O, V> property, ReferencedGetter<O, V> getter,
+                             Property<?, ?>[] properties, ReferencedGetter<?, ?>[] getters) {
+        this.property = property;
+        this.getter = getter;
+        this.properties = properties;
+        this.getters = getters;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public V get(Property<O, V> property, O object, Context context, boolean allowNull) {
+        Object current = object;
+        for (int i = 0; i < this.properties.length; i++) {
+            ReferencedGetter stepGetter = this.getters[i];
+            Property stepProperty = this.properties[i];
+            current = stepGetter == null ? stepProperty.get(current, context, allowNull) :
+                    stepGetter.get(stepProperty, current, context, allowNull);
+        }
+        return (V) current;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Resolution<V> tryGet(Property<O, V> property, O object, Context context, boolean allowNull) {
+        Object current = object;
+        for (int i = 0; i < this.properties.length; i++) {
+            ReferencedGetter stepGetter = this.getters[i];
+            Property stepProperty = this.properties[i];
+            Resolution<?> step = stepGetter == null ? stepProperty.tryGet(current, context, allowNull) :
+                    stepGetter.tryGet(stepProperty, current, context, allowNull);
+            if (!step.isResolved()) {
+                return step.propagate();
+            }
+            current = step.getValue();
+        }
+        return Resolution.of((V) current);
+    }
+
+    @Override
+    public Property<?, ?> getParent() {
+        return this.getter.getParent();
+    }
+
+    @Override
+    public Set<Property<?, ?>> getHierarchy(Property<O, V> property) {
+        return this.getter.getHierarchy(this.property);
+    }
+
+    @Override
+    public int occurrences(Property<O, V> property, O object) {
+        return this.getter.occurrences(this.property, object);
+    }
+
+    @Override
+    public Collection<Context> contextualize(Property<O, V> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return this.getter.contextualize(this.property, object, context, traversingMode, includeNull);
+    }
+
+    @Override
+    public Spliterator<Context> spliterate(Property<O, V> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return this.getter.spliterate(this.property, object, context, traversingMode, includeNull);
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, V>> traverse(Property<O, V> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return this.getter.traverse(this.property, object, context, traversingMode, includeNull);
+    }
+
+    @Override
+    public Spliterator<V> values(Property<O, V> property, O object, Context context, TraversingMode traversingMode) {
+        return this.getter.values(this.property, object, context, traversingMode);
+    }
+
+    @Override
+    public void extract(Property<O, V> property, O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        this.getter.extract(this.property, object, context, consumer);
+    }
+
+    @Override
+    public Collection<Context> contextualize(Property<O, V> property, O object, V value, Context context) {
+        return this.getter.contextualize(this.property, object, value, context);
+    }
+
+    static void flatten(Property<?, ?> property, ReferencedGetter<?, ?> getter,
+                        Function<Property<?, ?>, ReferencedGetter<?, ?>> getterResolver,
+                        List<Property<?, ?>> properties, List<ReferencedGetter<?, ?>> getters) {
+        if (getter instanceof PathReferencedGetter) {
+            PathReferencedGetter<?, ?, ?> path = (PathReferencedGetter<?, ?, ?>) getter;
+            flatten(path.getParent(), getterResolver.apply(path.getParent()), getterResolver, properties, getters);
+            flatten(path.getChild(), path.getGetter(), getterResolver, properties, getters);
+        } else if (getter instanceof CompiledReferencedGetter) {
+            CompiledReferencedGetter<?, ?> compiled = (CompiledReferencedGetter<?, ?>) getter;
+            for (int i = 0; i < compiled.properties.length; i++) {
+                properties.add(compiled.properties[i]);
+                getters.add(compiled.getters[i]);
+            }
+        } else {
+            properties.add(property);
+            getters.add(getter);
+        }
+    }
+
+    /**
+     * Compiles the given {@link Property} into a flat sequence of steps, one for every segment on its path.
+     * <p>
+     * Retrieving a value using the compiled {@link ReferencedGetter} equals retrieving it using the given one, but
+     * only requires a single call per path segment instead of descending through every parent {@link Property}.
+     *
+     * @param <O>
+     *          The object type.
+     * @param <V>
+     *          The value type.
+     * @param property
+     *          The {@link Property} to compile; might <b>not</b> be null.
+     * @param getter
+     *          The {@link ReferencedGetter} of the given {@link Property}; might <b>not</b> be null.
+     * @param getterResolver
+     *          A {@link Function} able to resolve the {@link ReferencedGetter} of a parent {@link Property} on the
+     *          path; might <b>not</b> be null, might return null if a {@link Property}'s getter is unknown.
+     * @return A new {@link CompiledReferencedGetter}, never null
+     */
+    public static <O, V> CompiledReferencedGetter<O, V> from(Property<O, V> property, ReferencedGetter<O, V> getter,
+                                                            Function<Property<?, ?>, ReferencedGetter<?, ?>> getterResolver) {
+        if (property == null) {
+            throw new IllegalArgumentException("Cannot compile a null property");
+        } else if (getter == null) {
+            throw new IllegalArgumentException("Cannot compile a property from a null getter");
+        } else if (getterResolver == null) {
+            throw new IllegalArgumentException("Cannot compile a property using a null getter resolver");
+        }
+        List<Property<?, ?>> properties = new ArrayList<>();
+        List<ReferencedGetter<?, ?>> getters = new ArrayList<>();
+        flatten(property, getter, getterResolver, properties, getters);
+        return new CompiledReferencedGetter<>(property, getter,
+                properties.toArray(new Property<?, ?>[properties.size()]),
+                getters.toArray(new ReferencedGetter<?, ?>[getters.size()]));
+    }
+}
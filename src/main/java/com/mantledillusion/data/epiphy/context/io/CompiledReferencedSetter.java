@@ -0,0 +1,113 @@
+package com.mantledillusion.data.epiphy.context.io;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class CompiledReferencedSetter<O, V> implements ReferencedSetter<O, V> {
+
+    private final ReferencedSetter<O, V> setter;
+    private final Property<?, ?>[] properties;
+    private final ReferencedGetter<?, ?>[] getters;
+    private final Property<?, ?>[] interruptions;
+    private final Property<?, ?> leafProperty;
+    private final ReferencedSetter<?, ?> leafSetter;
+
+    private CompiledReferencedSetter(ReferencedSetter<O, V> setter, Property<?, ?>[] properties,
+                                     ReferencedGetter<?, ?>[] getters, Property<?, ?>[] interruptions,
+                                     Property<?, ?> leafProperty, ReferencedSetter<?, ?> leafSetter) {
+        this.setter = setter;
+        this.properties = properties;
+        this.getters = getters;
+        this.interruptions = interruptions;
+        this.leafProperty = leafProperty;
+        this.leafSetter = leafSetter;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void set(Property<O, V> property, O object, V value, Context context) {
+        Object current = object;
+        for (int i = 0; i < this.properties.length; i++) {
+            ReferencedGetter stepGetter = this.getters[i];
+            Property stepProperty = this.properties[i];
+            current = stepGetter == null ? stepProperty.get(current, context, false) :
+                    stepGetter.get(stepProperty, current, context, false);
+            if (current == null && this.interruptions[i] != null) {
+                throw PropertyPathExceptions.interrupted(this.interruptions[i]);
+            }
+        }
+        ((ReferencedSetter) this.leafSetter).set(this.leafProperty, current, value, context);
+    }
+
+    @Override
+    public boolean isWritable() {
+        return this.setter.isWritable();
+    }
+
+    /**
+     * Compiles the given {@link Property} into a flat sequence of steps, one for every segment on its path.
+     * <p>
+     * Writing a value using the compiled {@link ReferencedSetter} equals writing it using the given one, but only
+     * requires a single call per path segment instead of descending through every parent {@link Property}.
+     *
+     * @param <O>
+     *          The object type.
+     * @param <V>
+     *          The value type.
+     * @param property
+     *          The {@link Property} to compile; might <b>not</b> be null.
+     * @param setter
+     *          The {@link ReferencedSetter} of the given {@link Property}; might <b>not</b> be null.
+     * @param getterResolver
+     *          A {@link Function} able to resolve the {@link ReferencedGetter} of a parent {@link Property} on the
+     *          path; might <b>not</b> be null, might return null if a {@link Property}'s getter is unknown.
+     * @return A new {@link CompiledReferencedSetter}, never null
+     */
+    public static <O, V> CompiledReferencedSetter<O, V> from(Property<O, V> property, ReferencedSetter<O, V> setter,
+                                                            Function<Property<?, ?>, ReferencedGetter<?, ?>> getterResolver) {
+        if (property == null) {
+            throw new IllegalArgumentException("Cannot compile a null property");
+        } else if (setter == null) {
+            throw new IllegalArgumentException("Cannot compile a property from a null setter");
+        } else if (getterResolver == null) {
+            throw new IllegalArgumentException("Cannot compile a property using a null getter resolver");
+        }
+        List<Property<?, ?>> properties = new ArrayList<>();
+        List<ReferencedGetter<?, ?>> getters = new ArrayList<>();
+        List<Property<?, ?>> interruptions = new ArrayList<>();
+
+        Property<?, ?> leafProperty = property;
+        ReferencedSetter<?, ?> leafSetter = setter;
+        while (leafSetter instanceof PathReferencedSetter) {
+            PathReferencedSetter<?, ?, ?> path = (PathReferencedSetter<?, ?, ?>) leafSetter;
+            CompiledReferencedGetter.flatten(path.getParent(), getterResolver.apply(path.getParent()), getterResolver,
+                    properties, getters);
+            interruptions.addAll(Collections.nCopies(properties.size()-interruptions.size(), null));
+            interruptions.set(interruptions.size()-1, path.getChild());
+            leafProperty = path.getChild();
+            leafSetter = path.getSetter();
+        }
+        if (leafSetter instanceof CompiledReferencedSetter) {
+            CompiledReferencedSetter<?, ?> compiled = (CompiledReferencedSetter<?, ?>) leafSetter;
+            for (int i = 0; i < compiled.properties.length; i++) {
+                properties.add(compiled.properties[i]);
+                getters.add(compiled.getters[i]);
+                interruptions.add(compiled.interruptions[i]);
+            }
+            leafProperty = compiled.leafProperty;
+            leafSetter = compiled.leafSetter;
+        }
+
+        return new CompiledReferencedSetter<>(setter,
+                properties.toArray(new Property<?, ?>[properties.size()]),
+                getters.toArray(new ReferencedGetter<?, ?>[getters.size()]),
+                interruptions.toArray(new Property<?, ?>[interruptions.size()]),
+                leafProperty, leafSetter);
+    }
+}
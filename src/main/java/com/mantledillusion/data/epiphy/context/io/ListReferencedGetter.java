@@ -2,43 +2,123 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class ListReferencedGetter<E> implements ReferencedGetter<List<E>, E> {
 
+    private static final class IndexSpliterator<E, T> implements Spliterator<T> {
+
+        private final Property<List<E>, E> property;
+        private final List<E> object;
+        private final Context context;
+        private final boolean includeNull;
+        private final BiFunction<Context, E, T> mapper;
+        private final int fence;
+        private int index;
+
+        private IndexSpliterator(Property<List<E>, E> property, List<E> object, Context context, boolean includeNull,
+                                 BiFunction<Context, E, T> mapper, int index, int fence) {
+            this.property = property;
+            this.object = object;
+            this.context = context;
+            this.includeNull = includeNull;
+            this.mapper = mapper;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (this.index < this.fence) {
+                int i = this.index++;
+                E element = this.object.get(i);
+                if (this.includeNull || element != null) {
+                    action.accept(this.mapper == null ? (T) element :
+                            this.mapper.apply(this.context.union(PropertyIndex.of(this.property, i)), element));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (this.index + this.fence) >>> 1;
+            if (mid <= this.index) {
+                return null;
+            }
+            IndexSpliterator<E, T> prefix = new IndexSpliterator<>(this.property, this.object, this.context,
+                    this.includeNull, this.mapper, this.index, mid);
+            this.index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.fence - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL | (this.includeNull ? SIZED | SUBSIZED : 0);
+        }
+    }
+
     private Set<Property<?, ?>> hierarchy;
 
     private ListReferencedGetter() {}
 
     @Override
     public E get(Property<List<E>, E> property, List<E> object, Context context, boolean allowNull) {
-        if (!context.containsReference(property, PropertyIndex.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
             if (allowNull) {
                 return null;
             } else {
-                throw new InterruptedPropertyPathException(property);
+                throw PropertyPathExceptions.interrupted(property);
             }
         } else {
-            PropertyIndex reference = context.getReference(property);
-            int index = reference.getReference();
+            int index = reference.getIndex();
             if (index < 0 || index >= object.size()) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 return object.get(index);
             }
         }
     }
 
+    @Override
+    public Resolution<E> tryGet(Property<List<E>, E> property, List<E> object, Context context, boolean allowNull) {
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        if (reference == null) {
+            return Resolution.unreferenced(property);
+        } else if (object == null) {
+            return allowNull ? Resolution.of(null) : Resolution.interrupted(property);
+        } else {
+            int index = reference.getIndex();
+            if (index < 0 || index >= object.size()) {
+                return Resolution.outbound(property, reference);
+            } else {
+                return Resolution.of(object.get(index));
+            }
+        }
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -59,19 +139,64 @@ public class ListReferencedGetter<E> implements ReferencedGetter<List<E>, E> {
 
     @Override
     public Collection<Context> contextualize(Property<List<E>, E> property, List<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
-        Integer idx = context.containsReference(property, PropertyIndex.class) ?
-                context.getReference(property, PropertyIndex.class).getReference() : null;
-        return IntStream.range(idx != null ? idx : 0, idx != null ? idx+1 : (object == null ? 0 : object.size())).
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        int from = reference != null ? reference.getIndex() : 0;
+        int to = reference != null ? from+1 : (object == null ? 0 : object.size());
+        return IntStream.range(from, to).
                 filter(i -> includeNull || object.get(i) != null).
                 mapToObj(i -> context.union(PropertyIndex.of(property, i))).
                 collect(Collectors.toList());
     }
 
+    @Override
+    public Spliterator<Context> spliterate(Property<List<E>, E> property, List<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return indexSpliterator(property, object, context, includeNull, (ctx, element) -> ctx);
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, E>> traverse(Property<List<E>, E> property, List<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return indexSpliterator(property, object, context, includeNull, ReferencedValue::of);
+    }
+
+    @Override
+    public Spliterator<E> values(Property<List<E>, E> property, List<E> object, Context context, TraversingMode traversingMode) {
+        return indexSpliterator(property, object, context, false, null);
+    }
+
+    @Override
+    public void extract(Property<List<E>, E> property, List<E> object, Context context, BiConsumer<PropertyReference<?, ?>, ? super E> consumer) {
+        if (object == null) {
+            return;
+        }
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        int from = reference != null ? Math.max(0, reference.getIndex()) : 0;
+        int to = reference != null ? Math.min(object.size(), reference.getIndex()+1) : object.size();
+        for (int i = from; i < to; i++) {
+            E element = object.get(i);
+            if (element != null) {
+                consumer.accept(PropertyIndex.of(property, i), element);
+            }
+        }
+    }
+
+    private static <E, T> Spliterator<T> indexSpliterator(Property<List<E>, E> property, List<E> object, Context context,
+                                                          boolean includeNull, BiFunction<Context, E, T> mapper) {
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        if (object == null) {
+            return Spliterators.emptySpliterator();
+        } else if (reference != null) {
+            return new IndexSpliterator<>(property, object, context, includeNull, mapper, reference.getIndex(), reference.getIndex()+1);
+        } else {
+            return new IndexSpliterator<>(property, object, context, includeNull, mapper, 0, object.size());
+        }
+    }
+
     @Override
     public Collection<Context> contextualize(Property<List<E>, E> property, List<E> object, E value, Context context) {
-        Integer idx = context.containsReference(property, PropertyIndex.class) ?
-                context.getReference(property, PropertyIndex.class).getReference() : null;
-        return IntStream.range(idx != null ? idx : 0, idx != null ? idx+1 : (object == null ? 0 : object.size())).
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        int from = reference != null ? reference.getIndex() : 0;
+        int to = reference != null ? from+1 : (object == null ? 0 : object.size());
+        return IntStream.range(from, to).
                 filter(i -> Objects.equals(object.get(i), value)).
                 mapToObj(i -> context.union(PropertyIndex.of(property, i))).
                 collect(Collectors.toList());
@@ -2,12 +2,12 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.List;
+import java.util.function.Function;
 
 public class ListReferencedSetter<E> implements ReferencedSetter<List<E>, E> {
 
@@ -15,21 +15,33 @@ public class ListReferencedSetter<E> implements ReferencedSetter<List<E>, E> {
 
     @Override
     public void set(Property<List<E>, E> property, List<E> object, E value, Context context) {
-        if (!context.containsReference(property, PropertyIndex.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
-            throw new InterruptedPropertyPathException(property);
+            throw PropertyPathExceptions.interrupted(property);
         } else {
-            PropertyIndex reference = context.getReference(property);
-            int index = reference.getReference();
+            int index = reference.getIndex();
             if (index < 0 || index >= object.size()) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 object.set(index, value);
             }
         }
     }
 
+    @Override
+    public void setAll(Property<List<E>, E> property, List<E> object, Context context, ExecutionPolicy executionPolicy,
+                       Function<? super E, ? extends E> function) {
+        if (object == null) {
+            return;
+        }
+        PropertyIndex reference = context.findReference(property, PropertyIndex.class);
+        int from = reference != null ? Math.max(0, reference.getIndex()) : 0;
+        int to = reference != null ? Math.min(object.size(), reference.getIndex()+1) : object.size();
+        executionPolicy.processRange(from, to, i -> object.set(i, function.apply(object.get(i))));
+    }
+
     @Override
     public boolean isWritable() {
         return true;
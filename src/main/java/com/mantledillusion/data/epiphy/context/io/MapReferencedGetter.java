@@ -2,13 +2,16 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,25 +23,42 @@ public class MapReferencedGetter<K, V> implements ReferencedGetter<Map<K, V>, V>
 
     @Override
     public V get(Property<Map<K, V>, V> property, Map<K, V> object, Context context, boolean allowNull) {
-        if (!context.containsReference(property, PropertyKey.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
             if (allowNull) {
                 return null;
             } else {
-                throw new InterruptedPropertyPathException(property);
+                throw PropertyPathExceptions.interrupted(property);
             }
         } else {
-            PropertyKey<K> reference = context.getReference(property);
             K key = reference.getReference();
             if (!object.containsKey(key)) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 return object.get(key);
             }
         }
     }
 
+    @Override
+    public Resolution<V> tryGet(Property<Map<K, V>, V> property, Map<K, V> object, Context context, boolean allowNull) {
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            return Resolution.unreferenced(property);
+        } else if (object == null) {
+            return allowNull ? Resolution.of(null) : Resolution.interrupted(property);
+        } else {
+            K key = reference.getReference();
+            if (!object.containsKey(key)) {
+                return Resolution.outbound(property, reference);
+            } else {
+                return Resolution.of(object.get(key));
+            }
+        }
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -51,22 +71,82 @@ public class MapReferencedGetter<K, V> implements ReferencedGetter<Map<K, V>, V>
 
     @Override
     public Collection<Context> contextualize(Property<Map<K, V>, V> property, Map<K, V> object, Context context, TraversingMode traversingMode, boolean includeNull) {
-        K key = context.containsReference(property, PropertyKey.class) ?
-                ((PropertyKey<K>) context.getReference(property, PropertyKey.class)).getReference() : null;
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        K key = reference != null ? reference.getReference() : null;
+        if (key != null) {
+            return includeNull || object.get(key) != null ?
+                    Collections.singleton(context.union(PropertyKey.ofMap(property, key))) : Collections.emptySet();
+        }
+        return ExecutionPolicy.getDefault().process(object.keySet(), keys -> keys.
+                filter(k -> includeNull || object.get(k) != null).
+                map(k -> context.union(PropertyKey.ofMap(property, k))).
+                collect(Collectors.toSet()));
+    }
+
+    @Override
+    public Spliterator<Context> spliterate(Property<Map<K, V>, V> property, Map<K, V> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        K key = reference != null ? reference.getReference() : null;
         return (key != null ? Stream.of(key) : object.keySet().stream()).
                 filter(k -> includeNull || object.get(k) != null).
                 map(k -> context.union(PropertyKey.ofMap(property, k))).
-                collect(Collectors.toSet());
+                spliterator();
     }
 
     @Override
-    public Collection<Context> contextualize(Property<Map<K, V>, V> property, Map<K, V> object, V value, Context context) {
-        K key = context.containsReference(property, PropertyKey.class) ?
-                ((PropertyKey<K>) context.getReference(property, PropertyKey.class)).getReference() : null;
+    public Spliterator<ReferencedValue<Context, V>> traverse(Property<Map<K, V>, V> property, Map<K, V> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        K key = reference != null ? reference.getReference() : null;
         return (key != null ? Stream.of(key) : object.keySet().stream()).
+                map(k -> ReferencedValue.of(k, object.get(k))).
+                filter(entry -> includeNull || entry.getValue() != null).
+                map(entry -> ReferencedValue.of(context.union(PropertyKey.ofMap(property, entry.getReference())), entry.getValue())).
+                spliterator();
+    }
+
+    @Override
+    public Spliterator<V> values(Property<Map<K, V>, V> property, Map<K, V> object, Context context, TraversingMode traversingMode) {
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (object == null) {
+            return Spliterators.emptySpliterator();
+        }
+        return (reference != null ? Stream.of(object.get(reference.getReference())) : object.values().stream()).
+                filter(Objects::nonNull).
+                spliterator();
+    }
+
+    @Override
+    public void extract(Property<Map<K, V>, V> property, Map<K, V> object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        if (object == null) {
+            return;
+        }
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (reference != null) {
+            V value = object.get(reference.getReference());
+            if (value != null) {
+                consumer.accept(PropertyKey.ofMap(property, reference.getReference()), value);
+            }
+        } else {
+            object.forEach((key, value) -> {
+                if (value != null) {
+                    consumer.accept(PropertyKey.ofMap(property, key), value);
+                }
+            });
+        }
+    }
+
+    @Override
+    public Collection<Context> contextualize(Property<Map<K, V>, V> property, Map<K, V> object, V value, Context context) {
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        K key = reference != null ? reference.getReference() : null;
+        if (key != null) {
+            return Objects.equals(object.get(key), value) ?
+                    Collections.singleton(context.union(PropertyKey.ofMap(property, key))) : Collections.emptySet();
+        }
+        return ExecutionPolicy.getDefault().process(object.keySet(), keys -> keys.
                 filter(k -> Objects.equals(object.get(k), value)).
                 map(k -> context.union(PropertyKey.ofMap(property, k))).
-                collect(Collectors.toSet());
+                collect(Collectors.toSet()));
     }
 
     @Override
@@ -2,32 +2,54 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.Map;
+import java.util.function.Function;
 
 public class MapReferencedSetter<K, V> implements ReferencedSetter<Map<K, V>, V> {
 
     @Override
     public void set(Property<Map<K, V>, V> property, Map<K, V> object, V value, Context context) {
-        if (!context.containsReference(property, PropertyKey.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
-            throw new InterruptedPropertyPathException(property);
+            throw PropertyPathExceptions.interrupted(property);
         } else {
-            PropertyKey<K> reference = context.getReference(property);
             K key = reference.getReference();
             if (!object.containsKey(key)) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 object.put(key, value);
             }
         }
     }
 
+    @Override
+    public void setAll(Property<Map<K, V>, V> property, Map<K, V> object, Context context, ExecutionPolicy executionPolicy,
+                       Function<? super V, ? extends V> function) {
+        if (object == null) {
+            return;
+        }
+        PropertyKey<K> reference = context.findReference(property, PropertyKey.class);
+        if (reference != null) {
+            K key = reference.getReference();
+            if (object.containsKey(key)) {
+                object.put(key, function.apply(object.get(key)));
+            }
+        } else if (executionPolicy.isParallel(object.size())) {
+            executionPolicy.process(object.entrySet(), entries -> {
+                entries.forEach(entry -> entry.setValue(function.apply(entry.getValue())));
+                return null;
+            });
+        } else {
+            object.replaceAll((key, value) -> function.apply(value));
+        }
+    }
+
     @Override
     public boolean isWritable() {
         return true;
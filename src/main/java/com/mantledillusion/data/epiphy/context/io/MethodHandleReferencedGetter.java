@@ -0,0 +1,135 @@
+package com.mantledillusion.data.epiphy.context.io;
+
+import com.mantledillusion.data.epiphy.Getter;
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public class MethodHandleReferencedGetter<O, V> extends CompiledReferencedGetter<O, V> {
+
+    private static final MethodType STEP_TYPE = MethodType.methodType(Object.class, Object.class, Context.class, boolean.class);
+
+    private static final MethodHandle REFERENCED_GETTER_GET;
+    private static final MethodHandle PROPERTY_GET;
+    private static final MethodHandle GETTER_GET;
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle INTERRUPT;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            REFERENCED_GETTER_GET = lookup.findVirtual(ReferencedGetter.class, "get",
+                    MethodType.methodType(Object.class, Property.class, Object.class, Context.class, boolean.class));
+            PROPERTY_GET = lookup.findVirtual(Property.class, "get", STEP_TYPE);
+            GETTER_GET = lookup.findVirtual(Getter.class, "get", MethodType.methodType(Object.class, Object.class));
+            IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            INTERRUPT = lookup.findStatic(MethodHandleReferencedGetter.class, "interrupt",
+                    MethodType.methodType(Object.class, Property.class, Object.class, Context.class, boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle handle;
+
+    private MethodHandleReferencedGetter(Property<O, V> property, ReferencedGetter<O, V> getter,
+                                         Property<?, ?>[] properties, ReferencedGetter<?, ?>[] getters) {
+        super(property, getter, properties, getters);
+
+        MethodHandle handle = null;
+        for (int i = 0; i < properties.length; i++) {
+            MethodHandle step = step(properties[i], getters[i]);
+            handle = handle == null ? step : MethodHandles.permuteArguments(
+                    MethodHandles.collectArguments(step, 0, handle), STEP_TYPE, 0, 1, 2, 1, 2);
+        }
+        this.handle = handle;
+    }
+
+    private static MethodHandle step(Property<?, ?> property, ReferencedGetter<?, ?> getter) {
+        if (getter == null) {
+            return PROPERTY_GET.bindTo(property);
+        } else if (getter instanceof ObjectReferencedGetter) {
+            MethodHandle get = MethodHandles.dropArguments(
+                    GETTER_GET.bindTo(((ObjectReferencedGetter<?, ?>) getter).getGetter()), 1, Context.class, boolean.class);
+            return MethodHandles.guardWithTest(IS_NULL, MethodHandles.insertArguments(INTERRUPT, 0, property), get);
+        } else {
+            return MethodHandles.insertArguments(REFERENCED_GETTER_GET.bindTo(getter), 0, property);
+        }
+    }
+
+    private static Object interrupt(Property<?, ?> property, Object object, Context context, boolean allowNull) {
+        if (allowNull) {
+            return null;
+        } else {
+            throw PropertyPathExceptions.interrupted(property);
+        }
+    }
+
+    /**
+     * Returns the {@link MethodHandle} this {@link MethodHandleReferencedGetter} retrieves values with.
+     * <p>
+     * The handle is of the type (Object object, {@link Context} context, boolean allowNull)Object, where the
+     * {@link Context} might <b>not</b> be null.
+     *
+     * @return The {@link MethodHandle}, never null
+     */
+    public MethodHandle getHandle() {
+        return this.handle;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Property<O, V> property, O object, Context context, boolean allowNull) {
+        try {
+            Object value = this.handle.invokeExact((Object) object, context, allowNull);
+            return (V) value;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unable to retrieve the value of the property " + property, t);
+        }
+    }
+
+    /**
+     * Compiles the given {@link Property} into a chain of {@link MethodHandle}s, one for every segment on its path.
+     * <p>
+     * Retrieving a value using the compiled {@link ReferencedGetter} equals retrieving it using the given one.
+     *
+     * @param <O>
+     *          The object type.
+     * @param <V>
+     *          The value type.
+     * @param property
+     *          The {@link Property} to compile; might <b>not</b> be null.
+     * @param getter
+     *          The {@link ReferencedGetter} of the given {@link Property}; might <b>not</b> be null.
+     * @param getterResolver
+     *          A {@link Function} able to resolve the {@link ReferencedGetter} of a parent {@link Property} on the
+     *          path; might <b>not</b> be null, might return null if a {@link Property}'s getter is unknown.
+     * @return A new {@link MethodHandleReferencedGetter}, never null
+     */
+    public static <O, V> MethodHandleReferencedGetter<O, V> from(Property<O, V> property, ReferencedGetter<O, V> getter,
+                                                                Function<Property<?, ?>, ReferencedGetter<?, ?>> getterResolver) {
+        if (property == null) {
+            throw new IllegalArgumentException("Cannot compile a null property");
+        } else if (getter == null) {
+            throw new IllegalArgumentException("Cannot compile a property from a null getter");
+        } else if (getterResolver == null) {
+            throw new IllegalArgumentException("Cannot compile a property using a null getter resolver");
+        }
+        List<Property<?, ?>> properties = new ArrayList<>();
+        List<ReferencedGetter<?, ?>> getters = new ArrayList<>();
+        flatten(property, getter, getterResolver, properties, getters);
+        return new MethodHandleReferencedGetter<>(property, getter,
+                properties.toArray(new Property<?, ?>[properties.size()]),
+                getters.toArray(new ReferencedGetter<?, ?>[getters.size()]));
+    }
+}
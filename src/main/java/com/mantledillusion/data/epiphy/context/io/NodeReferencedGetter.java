@@ -3,18 +3,194 @@ package com.mantledillusion.data.epiphy.context.io;
 import com.mantledillusion.data.epiphy.NodeRetriever;
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.RouteCache;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
 import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 
 import java.util.*;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class NodeReferencedGetter<O, N> implements ReferencedGetter<O, N> {
 
+    private final class NodeSpliterator implements Spliterator<ReferencedValue<Context, N>> {
+
+        private final Context baseContext;
+        private final TraversingMode traversingMode;
+        private final boolean includeNull;
+        private final Deque<PropertyRoute> routes = new ArrayDeque<>();
+        private final Deque<Spliterator<ReferencedValue<Context, N>>> levels = new ArrayDeque<>();
+        private ReferencedValue<Context, N> parent;
+
+        private NodeSpliterator(N node, PropertyRoute route, Context baseContext, TraversingMode traversingMode, boolean includeNull) {
+            this.baseContext = baseContext;
+            this.traversingMode = traversingMode;
+            this.includeNull = includeNull;
+            if (traversingMode.isIncludeParent()) {
+                this.parent = ReferencedValue.of(baseContext.union(route), node);
+            }
+            if (traversingMode.isIncludeChildren()) {
+                this.routes.push(route);
+                this.levels.push(nodeRetriever.traverse(node, null, TraversingMode.RECURSIVE, includeNull));
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ReferencedValue<Context, N>> action) {
+            if (this.parent != null) {
+                action.accept(this.parent);
+                this.parent = null;
+                return true;
+            }
+            while (!this.levels.isEmpty()) {
+                PropertyRoute route = this.routes.peek();
+                if (this.levels.peek().tryAdvance(sub -> {
+                    PropertyRoute appendedRoute = route.append(sub.getReference());
+                    if (this.traversingMode.isRecursive() && sub.getValue() != null) {
+                        Spliterator<ReferencedValue<Context, N>> children = nodeRetriever.traverse(sub.getValue(),
+                                null, TraversingMode.RECURSIVE, this.includeNull);
+                        if (this.traversingMode.isBreadthFirst()) {
+                            this.routes.addLast(appendedRoute);
+                            this.levels.addLast(children);
+                        } else {
+                            this.routes.push(appendedRoute);
+                            this.levels.push(children);
+                        }
+                    }
+                    action.accept(ReferencedValue.of(this.baseContext.union(appendedRoute), sub.getValue()));
+                })) {
+                    return true;
+                }
+                this.routes.pop();
+                this.levels.pop();
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<ReferencedValue<Context, N>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+
+    private static final class Frame<N> {
+
+        private final N node;
+        private final PropertyRoute route;
+
+        private Frame(N node, PropertyRoute route) {
+            this.node = node;
+            this.route = route;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class OccurrenceTask extends RecursiveTask<Integer> {
+
+        private final Deque<N> nodes;
+        private final int threshold;
+
+        private OccurrenceTask(Deque<N> nodes, int threshold) {
+            this.nodes = nodes;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            List<OccurrenceTask> forks = new ArrayList<>();
+            int count = 0;
+            while (!this.nodes.isEmpty()) {
+                if (this.nodes.size() > this.threshold) {
+                    Deque<N> split = new ArrayDeque<>();
+                    for (int i = this.nodes.size()/2; i > 0; i--) {
+                        split.push(this.nodes.pollLast());
+                    }
+                    OccurrenceTask fork = new OccurrenceTask(split, this.threshold);
+                    fork.fork();
+                    forks.add(fork);
+                }
+                count++;
+                nodeRetriever.traverse(this.nodes.pop()).forEachRemaining(sub -> {
+                    if (sub.getValue() != null) {
+                        this.nodes.push(sub.getValue());
+                    }
+                });
+            }
+            for (OccurrenceTask fork: forks) {
+                count += fork.join();
+            }
+            return count;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class TraversalTask extends RecursiveTask<List<ReferencedValue<Context, N>>> {
+
+        private final Deque<Frame<N>> frames;
+        private final Context baseContext;
+        private final boolean includeNull;
+        private final int threshold;
+
+        private TraversalTask(Deque<Frame<N>> frames, Context baseContext, boolean includeNull, int threshold) {
+            this.frames = frames;
+            this.baseContext = baseContext;
+            this.includeNull = includeNull;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected List<ReferencedValue<Context, N>> compute() {
+            Deque<TraversalTask> forks = new ArrayDeque<>();
+            List<ReferencedValue<Context, N>> values = new ArrayList<>();
+            List<ReferencedValue<Context, N>> children = new ArrayList<>();
+            while (!this.frames.isEmpty()) {
+                if (this.frames.size() > this.threshold) {
+                    Deque<Frame<N>> split = new ArrayDeque<>();
+                    for (int i = this.frames.size()/2; i > 0; i--) {
+                        split.push(this.frames.pollLast());
+                    }
+                    TraversalTask fork = new TraversalTask(split, this.baseContext, this.includeNull, this.threshold);
+                    fork.fork();
+                    forks.push(fork);
+                }
+                Frame<N> frame = this.frames.pop();
+                values.add(ReferencedValue.of(this.baseContext.union(frame.route), frame.node));
+                if (frame.node != null) {
+                    nodeRetriever.traverse(frame.node, null, TraversingMode.RECURSIVE, this.includeNull).forEachRemaining(children::add);
+                    for (int i = children.size()-1; i >= 0; i--) {
+                        ReferencedValue<Context, N> child = children.get(i);
+                        this.frames.push(new Frame<>(child.getValue(), frame.route.append(child.getReference())));
+                    }
+                    children.clear();
+                }
+            }
+            for (TraversalTask fork: forks) {
+                values.addAll(fork.join());
+            }
+            return values;
+        }
+    }
+
     private final ReferencedGetter<O, N> getter;
     private final NodeRetriever<N> nodeRetriever;
 
@@ -29,14 +205,67 @@ public class NodeReferencedGetter<O, N> implements ReferencedGetter<O, N> {
     public N get(Property<O, N> property, O object, Context context, boolean allowNull)
             throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException {
         N node = this.getter.get(property, object, context, allowNull);
-        if (context.containsReference(this.nodeRetriever, PropertyRoute.class)) {
-            for (Context routeContext: context.getReference(this.nodeRetriever, PropertyRoute.class).getReference()) {
+        PropertyRoute route = context.findReference(this.nodeRetriever, PropertyRoute.class);
+        if (route != null) {
+            RouteCache routeCache = this.nodeRetriever.getRouteCache();
+            if (routeCache != null && node != null && route.length() > 0) {
+                return tryResolve(routeCache, node, route, allowNull).orElseThrow();
+            }
+            for (Context routeContext: route.getReference()) {
                 node = this.nodeRetriever.get(node, routeContext, allowNull);
             }
         }
         return node;
     }
 
+    @Override
+    public Resolution<N> tryGet(Property<O, N> property, O object, Context context, boolean allowNull) {
+        Resolution<N> resolution = this.getter.tryGet(property, object, context, allowNull);
+        PropertyRoute route = context.findReference(this.nodeRetriever, PropertyRoute.class);
+        if (!resolution.isResolved() || route == null) {
+            return resolution;
+        }
+        RouteCache routeCache = this.nodeRetriever.getRouteCache();
+        if (routeCache != null && resolution.getValue() != null && route.length() > 0) {
+            return tryResolve(routeCache, resolution.getValue(), route, allowNull);
+        }
+        for (Context routeContext: route.getReference()) {
+            resolution = this.nodeRetriever.tryGet(resolution.getValue(), routeContext, allowNull);
+            if (!resolution.isResolved()) {
+                return resolution;
+            }
+        }
+        return resolution;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Resolution<N> tryResolve(RouteCache routeCache, N root, PropertyRoute route, boolean allowNull) {
+        PropertyRoute[] prefixes = new PropertyRoute[route.length()+1];
+        N node = root;
+        int start = 0;
+        for (PropertyRoute prefix = route; prefix.length() > 0; prefix = prefix.getPrefix()) {
+            N cached = (N) routeCache.lookup(root, prefix);
+            if (cached != null) {
+                node = cached;
+                start = prefix.length();
+                break;
+            }
+            prefixes[prefix.length()] = prefix;
+        }
+        Context[] routeContexts = route.getReference();
+        for (int i = start; i < routeContexts.length; i++) {
+            Resolution<N> resolution = this.nodeRetriever.tryGet(node, routeContexts[i], allowNull);
+            if (!resolution.isResolved()) {
+                return resolution;
+            }
+            node = resolution.getValue();
+            if (node != null) {
+                routeCache.store(root, prefixes[i+1], node);
+            }
+        }
+        return Resolution.of(node);
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -54,61 +283,99 @@ public class NodeReferencedGetter<O, N> implements ReferencedGetter<O, N> {
 
     @Override
     public int occurrences(Property<O, N> property, O object) {
-        return subOccurrences(this.getter.get(property, object, Context.EMPTY, false));
-    }
-
-    private int subOccurrences(N node) {
-        return node == null ? 0 : 1 + this.nodeRetriever.contextualize(node).parallelStream().
-                map(subContext -> subOccurrences(this.nodeRetriever.get(node, subContext, false))).
-                reduce(0, Integer::sum);
+        N root = this.getter.get(property, object, Context.EMPTY, false);
+        Deque<N> nodes = new ArrayDeque<>();
+        if (root != null) {
+            nodes.push(root);
+        }
+        ExecutionPolicy executionPolicy = this.nodeRetriever.getExecutionPolicy();
+        if (executionPolicy.isParallel()) {
+            return executionPolicy.getPool().invoke(new OccurrenceTask(nodes, executionPolicy.getThreshold()));
+        }
+        int count = 0;
+        while (!nodes.isEmpty()) {
+            count++;
+            this.nodeRetriever.traverse(nodes.pop()).forEachRemaining(sub -> {
+                if (sub.getValue() != null) {
+                    nodes.push(sub.getValue());
+                }
+            });
+        }
+        return count;
     }
 
     @Override
     public Collection<Context> contextualize(Property<O, N> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
-        N node = get(property, object, context, false);
-        if (node != null) {
-            PropertyRoute baseRoute = context.containsReference(this.nodeRetriever, PropertyRoute.class) ?
-                    context.getReference(this.nodeRetriever, PropertyRoute.class) : PropertyRoute.of(this.nodeRetriever);
-            return subContextualize(node, baseRoute, context, traversingMode, includeNull).collect(Collectors.toList());
-        } else {
-            return Collections.emptyList();
+        ExecutionPolicy executionPolicy = this.nodeRetriever.getExecutionPolicy();
+        if (executionPolicy.isParallel() && traversingMode.isRecursive()) {
+            N node = get(property, object, context, false);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            PropertyRoute baseRoute = context.findReference(this.nodeRetriever, PropertyRoute.class);
+            Frame<N> root = new Frame<>(node, baseRoute != null ? baseRoute : PropertyRoute.of(this.nodeRetriever));
+            if (traversingMode.isBreadthFirst()) {
+                return contextualizeLevels(executionPolicy, root, context, includeNull);
+            }
+            Deque<Frame<N>> frames = new ArrayDeque<>();
+            frames.push(root);
+            return executionPolicy.getPool().invoke(new TraversalTask(frames, context, includeNull, executionPolicy.getThreshold())).
+                    stream().
+                    map(ReferencedValue::getReference).
+                    collect(Collectors.toList());
         }
+        List<Context> contexts = new ArrayList<>();
+        spliterate(property, object, context, traversingMode, includeNull).forEachRemaining(contexts::add);
+        return contexts;
     }
 
-    private Stream<Context> subContextualize(N node, PropertyRoute route, Context baseContext, TraversingMode traversingMode, boolean includeNull) {
-        return Stream.concat(!traversingMode.isIncludeParent() ? Stream.empty() : Stream.of(baseContext.union(route)),
-                !traversingMode.isIncludeChildren() ? Stream.empty() : this.nodeRetriever.contextualize(node, includeNull).stream().
-                        flatMap(subContext -> {
-                            PropertyRoute appendedRoute = route.append(subContext);
-                            if (traversingMode == TraversingMode.RECURSIVE) {
-                                N child = this.nodeRetriever.get(node, subContext, false);
-                                return subContextualize(child, appendedRoute, baseContext, traversingMode, includeNull);
-                            } else {
-                                return Stream.of(baseContext.union(appendedRoute));
-                            }
-                        }));
+    private List<Context> contextualizeLevels(ExecutionPolicy executionPolicy, Frame<N> root, Context context, boolean includeNull) {
+        List<Context> contexts = new ArrayList<>();
+        List<Frame<N>> level = Collections.singletonList(root);
+        while (!level.isEmpty()) {
+            for (Frame<N> frame: level) {
+                contexts.add(context.union(frame.route));
+            }
+            level = executionPolicy.process(level, frames -> frames.
+                    filter(frame -> frame.node != null).
+                    flatMap(frame -> StreamSupport.stream(this.nodeRetriever.traverse(frame.node, null, TraversingMode.RECURSIVE, includeNull), false).
+                            map(child -> new Frame<>(child.getValue(), frame.route.append(child.getReference())))).
+                    collect(Collectors.toList()));
+        }
+        return contexts;
     }
 
     @Override
-    public Collection<Context> contextualize(Property<O, N> property, O object, N value, Context context) {
+    public Spliterator<Context> spliterate(Property<O, N> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return StreamSupport.stream(traverse(property, object, context, traversingMode, includeNull), false).
+                map(ReferencedValue::getReference).
+                spliterator();
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, N>> traverse(Property<O, N> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
         N node = get(property, object, context, false);
         if (node != null) {
-            PropertyRoute baseRoute = context.containsReference(this.nodeRetriever, PropertyRoute.class) ?
-                    context.getReference(this.nodeRetriever, PropertyRoute.class) : PropertyRoute.of(this.nodeRetriever);
-            return subContextualize(node, value, baseRoute, context).collect(Collectors.toList());
+            PropertyRoute baseRoute = context.findReference(this.nodeRetriever, PropertyRoute.class);
+            baseRoute = baseRoute != null ? baseRoute : PropertyRoute.of(this.nodeRetriever);
+            return new NodeSpliterator(node, baseRoute, context, traversingMode, includeNull);
         } else {
-            return Collections.emptyList();
+            return Spliterators.emptySpliterator();
         }
     }
 
-    private Stream<Context> subContextualize(N node, N value, PropertyRoute route, Context baseContext) {
-        return Stream.concat(Objects.equals(node, value) ? Stream.of(baseContext.union(route)) : Stream.empty(),
-                this.nodeRetriever.contextualize(node, true).stream().
-                flatMap(subContext -> {
-                    PropertyRoute appendedRoute = route.append(subContext);
-                    N child = this.nodeRetriever.get(node, subContext, false);
-                    return subContextualize(child, value, appendedRoute, baseContext);
-                }));
+    @Override
+    public void extract(Property<O, N> property, O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super N> consumer) {
+        traverse(property, object, context, TraversingMode.RECURSIVE, false).forEachRemaining(node ->
+                consumer.accept(node.getReference().getReference(this.nodeRetriever), node.getValue()));
+    }
+
+    @Override
+    public Collection<Context> contextualize(Property<O, N> property, O object, N value, Context context) {
+        return StreamSupport.stream(traverse(property, object, context, TraversingMode.RECURSIVE, true), false).
+                filter(referencedValue -> Objects.equals(referencedValue.getValue(), value)).
+                map(ReferencedValue::getReference).
+                collect(Collectors.toList());
     }
 
     public static <N> NodeReferencedGetter<N, N> from(NodeRetriever<N> nodeRetriever) {
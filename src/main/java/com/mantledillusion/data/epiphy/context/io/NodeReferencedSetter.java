@@ -3,6 +3,7 @@ package com.mantledillusion.data.epiphy.context.io;
 import com.mantledillusion.data.epiphy.NodeRetriever;
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.RouteCache;
 import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
 
 public class NodeReferencedSetter<O, N> implements ReferencedSetter<O, N> {
@@ -19,14 +20,22 @@ public class NodeReferencedSetter<O, N> implements ReferencedSetter<O, N> {
 
     @Override
     public void set(Property<O, N> property, O object, N value, Context context) {
-        if (context.containsReference(this.nodeRetriever, PropertyRoute.class)) {
-            N node = this.getter.get(property, object, context, false);
-            for (Context routeContext: context.getReference(this.nodeRetriever, PropertyRoute.class).getReference()) {
-                node = this.nodeRetriever.get(node, routeContext, false);
+        PropertyRoute route = context.findReference(this.nodeRetriever, PropertyRoute.class);
+        RouteCache routeCache = this.nodeRetriever.getRouteCache();
+        try {
+            if (route != null) {
+                N node = this.getter.get(property, object, context, false);
+                for (Context routeContext: route.getReference()) {
+                    node = this.nodeRetriever.get(node, routeContext, false);
+                }
+                this.nodeRetriever.set(node, value, context);
+            } else {
+                this.setter.set(property, object, value, context);
+            }
+        } finally {
+            if (routeCache != null) {
+                routeCache.clear();
             }
-            this.nodeRetriever.set(node, value, context);
-        } else {
-            this.setter.set(property, object, value, context);
         }
     }
 
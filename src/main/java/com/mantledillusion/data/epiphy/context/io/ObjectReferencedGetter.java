@@ -1,12 +1,15 @@
 package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.Getter;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class ObjectReferencedGetter<O, V> implements ReferencedGetter<O, V> {
 
@@ -24,13 +27,22 @@ public class ObjectReferencedGetter<O, V> implements ReferencedGetter<O, V> {
             if (allowNull) {
                 return null;
             } else {
-                throw new InterruptedPropertyPathException(property);
+                throw PropertyPathExceptions.interrupted(property);
             }
         } else {
             return this.getter.get(object);
         }
     }
 
+    @Override
+    public Resolution<V> tryGet(Property<O, V> property, O object, Context context, boolean allowNull) {
+        if (object == null) {
+            return allowNull ? Resolution.of(null) : Resolution.interrupted(property);
+        } else {
+            return Resolution.of(this.getter.get(object));
+        }
+    }
+
     @Override
     public int occurrences(Property<O, V> property, O object) {
         return property.isNull(object) ? 0 : 1;
@@ -42,12 +54,30 @@ public class ObjectReferencedGetter<O, V> implements ReferencedGetter<O, V> {
                 Collections.singleton(context) : Collections.emptySet();
     }
 
+    @Override
+    public Spliterator<V> values(Property<O, V> property, O object, Context context, TraversingMode traversingMode) {
+        V value = object == null ? null : this.getter.get(object);
+        return value == null ? Spliterators.emptySpliterator() : Collections.singleton(value).spliterator();
+    }
+
+    @Override
+    public void extract(Property<O, V> property, O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        V value = object == null ? null : this.getter.get(object);
+        if (value != null) {
+            consumer.accept(null, value);
+        }
+    }
+
     @Override
     public Collection<Context> contextualize(Property<O, V> property, O object, V value, Context context) {
         return property.exists(object, context) && Objects.equals(this.getter.get(object), value) ?
                 Collections.singleton(context) : Collections.emptySet();
     }
 
+    Getter<O, V> getGetter() {
+        return this.getter;
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -2,7 +2,7 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 import com.mantledillusion.data.epiphy.Setter;
 
 public class ObjectReferencedSetter<O, V> implements ReferencedSetter<O, V> {
@@ -16,7 +16,7 @@ public class ObjectReferencedSetter<O, V> implements ReferencedSetter<O, V> {
     @Override
     public void set(Property<O, V> property, O object, V value, Context context) {
         if (object == null) {
-            throw new InterruptedPropertyPathException(property);
+            throw PropertyPathExceptions.interrupted(property);
         }
         this.setter.set(object, value);
     }
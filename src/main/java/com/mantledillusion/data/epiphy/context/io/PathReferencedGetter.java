@@ -2,13 +2,73 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class PathReferencedGetter<S, O, V> implements ReferencedGetter<S, V> {
 
+    private static final class PathSpliterator<P, C, T> implements Spliterator<T> {
+
+        private final Spliterator<P> parents;
+        private final Function<P, Spliterator<C>> childSpliterator;
+        private final BiFunction<P, C, T> combiner;
+        private P parent;
+        private Spliterator<C> children;
+
+        private PathSpliterator(Spliterator<P> parents,
+                                Function<P, Spliterator<C>> childSpliterator,
+                                BiFunction<P, C, T> combiner) {
+            this.parents = parents;
+            this.childSpliterator = childSpliterator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (true) {
+                if (this.children != null) {
+                    if (this.children.tryAdvance(child -> action.accept(this.combiner.apply(this.parent, child)))) {
+                        return true;
+                    }
+                    this.children = null;
+                }
+                if (!this.parents.tryAdvance(parent -> {
+                    this.parent = parent;
+                    this.children = this.childSpliterator.apply(parent);
+                })) {
+                    return false;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // THE CHILDREN OF THE CURRENT PARENT HAVE TO STAY IN FRONT OF ANY SPLIT OFF PREFIX
+            Spliterator<P> prefix = this.children == null ? this.parents.trySplit() : null;
+            return prefix == null ? null : new PathSpliterator<>(prefix, this.childSpliterator, this.combiner);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return (this.parents.characteristics() & ORDERED) | NONNULL;
+        }
+    }
+
     private final Property<S, O> parent;
     private final Property<O, V> child;
     private final ReferencedGetter<O, V> getter;
@@ -21,7 +81,7 @@ public class PathReferencedGetter<S, O, V> implements ReferencedGetter<S, V> {
 
         Set<Property<?, ?>> parentHierarchy = parent.getHierarchy();
         Set<Property<?, ?>> childHierarchy = child.getHierarchy();
-        if (parentHierarchy.parallelStream().anyMatch(childHierarchy::contains)) {
+        if (ExecutionPolicy.getDefault().process(parentHierarchy, properties -> properties.anyMatch(childHierarchy::contains))) {
             throw new IllegalArgumentException("The property "+parent+" contains at least one property in its " +
                     "hierarchy that is also contained by the property "+child+"; creating a path using these two " +
                     "would create an infinite loop.");
@@ -36,11 +96,28 @@ public class PathReferencedGetter<S, O, V> implements ReferencedGetter<S, V> {
         return this.getter.get(this.child, this.parent.get(object, context, allowNull), context, allowNull);
     }
 
+    @Override
+    public Resolution<V> tryGet(Property<S, V> property, S object, Context context, boolean allowNull) {
+        Resolution<O> parent = this.parent.tryGet(object, context, allowNull);
+        if (!parent.isResolved()) {
+            return parent.propagate();
+        }
+        return this.getter.tryGet(this.child, parent.getValue(), context, allowNull);
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return this.parent;
     }
 
+    Property<O, V> getChild() {
+        return this.child;
+    }
+
+    ReferencedGetter<O, V> getGetter() {
+        return this.getter;
+    }
+
     @Override
     public Set<Property<?, ?>> getHierarchy(Property<S, V> property) {
         return this.hierarchy;
@@ -62,6 +139,34 @@ public class PathReferencedGetter<S, O, V> implements ReferencedGetter<S, V> {
                 collect(Collectors.toList());
     }
 
+    @Override
+    public Spliterator<Context> spliterate(Property<S, V> property, S object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return new PathSpliterator<>(this.parent.traverse(object, context, traversingMode, includeNull),
+                parent -> this.child.spliterate(parent.getValue(), parent.getReference(), traversingMode, includeNull),
+                (parent, child) -> parent.getReference().union(child));
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, V>> traverse(Property<S, V> property, S object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        return new PathSpliterator<>(this.parent.traverse(object, context, traversingMode, includeNull),
+                parent -> this.child.traverse(parent.getValue(), parent.getReference(), traversingMode, includeNull),
+                (parent, child) -> ReferencedValue.of(parent.getReference().union(child.getReference()), child.getValue()));
+    }
+
+    @Override
+    public Spliterator<V> values(Property<S, V> property, S object, Context context, TraversingMode traversingMode) {
+        return new PathSpliterator<>(this.parent.values(object, context, traversingMode),
+                parent -> this.child.values(parent, context, traversingMode),
+                (parent, child) -> child);
+    }
+
+    @Override
+    public void extract(Property<S, V> property, S object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        this.parent.extract(object, context, (parentReference, parentValue) ->
+                this.getter.extract(this.child, parentValue, context, (reference, value) ->
+                        consumer.accept(reference != null ? reference : parentReference, value)));
+    }
+
     @Override
     public Collection<Context> contextualize(Property<S, V> property, S object, V value, Context context) {
         return this.parent.contextualize(object, context, TraversingMode.RECURSIVE, false).stream().
@@ -2,7 +2,11 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
+
+import java.util.function.Function;
 
 public class PathReferencedSetter<S, O, V> implements ReferencedSetter<S, V> {
 
@@ -20,11 +24,30 @@ public class PathReferencedSetter<S, O, V> implements ReferencedSetter<S, V> {
     public void set(Property<S, V> property, S object, V value, Context context) {
         O intermediate = this.parent.get(object, context, false);
         if (intermediate == null) {
-            throw new InterruptedPropertyPathException(this.child);
+            throw PropertyPathExceptions.interrupted(this.child);
         }
         this.setter.set(this.child, intermediate, value, context);
     }
 
+    @Override
+    public void setAll(Property<S, V> property, S object, Context context, ExecutionPolicy executionPolicy,
+                       Function<? super V, ? extends V> function) {
+        this.parent.values(object, context, TraversingMode.RECURSIVE).forEachRemaining(intermediate ->
+                this.setter.setAll(this.child, intermediate, context, executionPolicy, function));
+    }
+
+    Property<S, O> getParent() {
+        return this.parent;
+    }
+
+    Property<O, V> getChild() {
+        return this.child;
+    }
+
+    ReferencedSetter<O, V> getSetter() {
+        return this.setter;
+    }
+
     @Override
     public boolean isWritable() {
         return this.child.isWritable();
@@ -2,8 +2,11 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
 
+import java.util.function.Function;
+
 public class ReadonlyReferencedSetter<O, V> implements ReferencedSetter<O, V> {
 
     private ReadonlyReferencedSetter() {
@@ -15,6 +18,12 @@ public class ReadonlyReferencedSetter<O, V> implements ReferencedSetter<O, V> {
         throw new ReadonlyPropertyException(property);
     }
 
+    @Override
+    public void setAll(Property<O, V> property, O object, Context context, ExecutionPolicy executionPolicy,
+                       Function<? super V, ? extends V> function) {
+        throw new ReadonlyPropertyException(property);
+    }
+
     @Override
     public boolean isWritable() {
         return false;
@@ -2,13 +2,18 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.ModelPropertyNode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 
 import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.StreamSupport;
 
 /**
  * Interface for retrieving a value from an object using a {@link Context}.
@@ -49,6 +54,38 @@ public interface ReferencedGetter<O, V> {
 	V get(Property<O, V> property, O object, Context context, boolean allowNull)
 			throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException;
 
+	/**
+	 * Tries to retrieve the value from the object without throwing on a path that cannot be followed.
+	 * <p>
+	 * Where {@link #get(Property, Object, Context, boolean)} would throw an exception, this method returns a failed
+	 * {@link Resolution} naming the failing segment instead. Implementations are encouraged to detect failures without
+	 * creating any exception; by default, the exceptions of {@link #get(Property, Object, Context, boolean)} are caught
+	 * and converted.
+	 *
+	 * @param property
+	 * 			The property to get; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to lookup the value from; might be null.
+	 * @param context
+	 * 			The {@link Context} to use; might <b>not</b> be null.
+	 * @param allowNull
+	 * 			Whether or not the given object is allowed to be null. If set to true, instead of failing with
+	 * 			{@link Resolution.Failure#INTERRUPTED}, the method will resolve to null.
+	 * @return
+	 * 			The {@link Resolution}, never null
+	 */
+	default Resolution<V> tryGet(Property<O, V> property, O object, Context context, boolean allowNull) {
+		try {
+			return Resolution.of(get(property, object, context, allowNull));
+		} catch (InterruptedPropertyPathException e) {
+			return Resolution.interrupted(e.getProperty());
+		} catch (UnreferencedPropertyPathException e) {
+			return Resolution.unreferenced(e.getProperty());
+		} catch (OutboundPropertyPathException e) {
+			return Resolution.outbound(e.getProperty(), e.getReference());
+		}
+	}
+
 	Property<?, ?> getParent();
 
 	/**
@@ -117,6 +154,116 @@ public interface ReferencedGetter<O, V> {
 	 */
 	Collection<Context> contextualize(Property<O, V> property, O object, V value, Context context);
 
+	/**
+	 * Returns a lazy {@link Spliterator} of {@link Context}s for every occurrence of the given {@link Property} in the
+	 * given object.
+	 * <p>
+	 * The {@link Context}s returned equal the ones returned by
+	 * {@link #contextualize(Property, Object, Context, TraversingMode, boolean)}, but implementations are encouraged to
+	 * determine them one by one while the {@link Spliterator} is advanced instead of materializing them all upfront.
+	 * By default, the result of {@link #contextualize(Property, Object, Context, TraversingMode, boolean)} is wrapped.
+	 *
+	 * @param property
+	 * 			The property to check; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to check the value occurrences in; might be null.
+	 * @param context
+	 *          The context to use as a base; might be null.
+	 * @param traversingMode
+	 *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+	 *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+	 * @param includeNull
+	 *          Include {@link Context}s for all values where {@link Property#exists(Object, Context)} would return
+	 *          true, so they might be null.
+	 * @return
+	 * 			A {@link Spliterator} of {@link Context}s, never null, might be empty
+	 */
+	default Spliterator<Context> spliterate(Property<O, V> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+		return contextualize(property, object, context, traversingMode, includeNull).spliterator();
+	}
+
+	/**
+	 * Returns a lazy {@link Spliterator} of {@link ReferencedValue}s for every occurrence of the given {@link Property}
+	 * in the given object, each pairing the occurrence's {@link Context} with its value.
+	 * <p>
+	 * The {@link Context}s returned equal the ones returned by
+	 * {@link #spliterate(Property, Object, Context, TraversingMode, boolean)}, but implementations are encouraged to
+	 * retrieve the values during the same walk that discovers their {@link Context}s instead of resolving every value
+	 * again from the root object. By default, the value of each spliterated {@link Context} is retrieved using
+	 * {@link #get(Property, Object, Context, boolean)}.
+	 *
+	 * @param property
+	 * 			The property to check; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to check the value occurrences in; might be null.
+	 * @param context
+	 *          The context to use as a base; might be null.
+	 * @param traversingMode
+	 *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+	 *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+	 * @param includeNull
+	 *          Include {@link ReferencedValue}s for all values where {@link Property#exists(Object, Context)} would
+	 *          return true, so they might be null.
+	 * @return
+	 * 			A {@link Spliterator} of {@link ReferencedValue}s, never null, might be empty
+	 */
+	default Spliterator<ReferencedValue<Context, V>> traverse(Property<O, V> property, O object, Context context, TraversingMode traversingMode, boolean includeNull) {
+		return StreamSupport.stream(spliterate(property, object, context, traversingMode, includeNull), false).
+				map(ctx -> ReferencedValue.of(ctx, get(property, object, ctx, true))).
+				spliterator();
+	}
+
+	/**
+	 * Returns a lazy {@link Spliterator} of the non-null values of every occurrence of the given {@link Property} in
+	 * the given object.
+	 * <p>
+	 * The values returned equal the ones of {@link #traverse(Property, Object, Context, TraversingMode, boolean)}
+	 * without including null, but implementations are encouraged to not determine a {@link Context} for every value
+	 * since the values are not paired with one. By default, the values of the traversed {@link ReferencedValue}s are
+	 * returned.
+	 *
+	 * @param property
+	 * 			The property to check; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to check the value occurrences in; might be null.
+	 * @param context
+	 *          The context to use as a base; might be null.
+	 * @param traversingMode
+	 *          Transcend recursively through all layers of {@link ModelPropertyNode}s that might be on the path from
+	 *          the root {@link Property} to this {@link Property}; might <b>not</b> be null.
+	 * @return
+	 * 			A {@link Spliterator} of values, never null, might be empty
+	 */
+	default Spliterator<V> values(Property<O, V> property, O object, Context context, TraversingMode traversingMode) {
+		return StreamSupport.stream(traverse(property, object, context, traversingMode, false), false).
+				map(ReferencedValue::getValue).
+				spliterator();
+	}
+
+	/**
+	 * Passes the non-null value of every occurrence of the given {@link Property} in the given object to the given
+	 * consumer, paired with the {@link PropertyReference} of the innermost referenced segment of the path the value
+	 * has been found at.
+	 * <p>
+	 * The values passed equal the ones of {@link #values(Property, Object, Context, TraversingMode)} when traversing
+	 * recursively, but implementations are encouraged to not determine a {@link Context} for every value. By default,
+	 * the values of the traversed {@link ReferencedValue}s are passed together with the given {@link Property}'s
+	 * {@link PropertyReference} in their {@link Context}s.
+	 *
+	 * @param property
+	 * 			The property to check; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to check the value occurrences in; might be null.
+	 * @param context
+	 *          The context to use as a base; might <b>not</b> be null.
+	 * @param consumer
+	 *          The consumer to pass the values to; might <b>not</b> be null.
+	 */
+	default void extract(Property<O, V> property, O object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+		traverse(property, object, context, TraversingMode.RECURSIVE, false).forEachRemaining(value ->
+				consumer.accept(value.getReference().getReference(property), value.getValue()));
+	}
+
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	default <S> ReferencedGetter<S, V> obfuscate(Class<O> objectType) {
 		if (objectType == null) {
@@ -130,6 +277,11 @@ public interface ReferencedGetter<O, V> {
 				return ReferencedGetter.this.get((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, allowNull);
 			}
 
+			@Override
+			public Resolution tryGet(Property property, Object object, Context context, boolean allowNull) {
+				return ReferencedGetter.this.tryGet((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, allowNull);
+			}
+
 			@Override
 			public Property<?, ?> getParent() {
 				return ReferencedGetter.this.getParent();
@@ -150,6 +302,26 @@ public interface ReferencedGetter<O, V> {
 				return ReferencedGetter.this.contextualize((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, traversingMode, includeNull);
 			}
 
+			@Override
+			public Spliterator<Context> spliterate(Property property, Object object, Context context, TraversingMode traversingMode, boolean includeNull) {
+				return ReferencedGetter.this.spliterate((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, traversingMode, includeNull);
+			}
+
+			@Override
+			public Spliterator traverse(Property property, Object object, Context context, TraversingMode traversingMode, boolean includeNull) {
+				return ReferencedGetter.this.traverse((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, traversingMode, includeNull);
+			}
+
+			@Override
+			public Spliterator values(Property property, Object object, Context context, TraversingMode traversingMode) {
+				return ReferencedGetter.this.values((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, traversingMode);
+			}
+
+			@Override
+			public void extract(Property property, Object object, Context context, BiConsumer consumer) {
+				ReferencedGetter.this.extract((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, context, consumer);
+			}
+
 			@Override
 			public Collection<Context> contextualize(Property property, Object object, Object value, Context context) {
 				return ReferencedGetter.this.contextualize((Property<O, V>) property, objectType.isInstance(object) ? (O) object : null, (V) value, context);
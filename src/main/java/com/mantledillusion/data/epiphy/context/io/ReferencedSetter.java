@@ -2,11 +2,18 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * Interface for writing a value to an object using a {@link Context}.
  *
@@ -45,6 +52,38 @@ public interface ReferencedSetter<O, V> {
 			throws InterruptedPropertyPathException, UnreferencedPropertyPathException, OutboundPropertyPathException,
 			ReadonlyPropertyException;
 
+	/**
+	 * Replaces the value of every occurrence of the given {@link Property} in the given object.
+	 * <p>
+	 * By default, the occurrences are traversed using
+	 * {@link Property#traverse(Object, Context, TraversingMode, boolean)} and the new value of each occurrence is
+	 * written using {@link #set(Property, Object, Object, Context)}. Since writing a value might structurally modify
+	 * the container that is traversed (for example replacing an element of a {@link java.util.Set} or a node in a
+	 * tree), all occurrences are collected before the first one is written; implementations able to replace values
+	 * in place should override this method to write while traversing.
+	 *
+	 * @param property
+	 * 			The property to set; might <b>not</b> be null.
+	 * @param object
+	 * 			The instance to write the values to; might be null.
+	 * @param context
+	 * 			The {@link Context} to use as a base; might <b>not</b> be null.
+	 * @param executionPolicy
+	 * 			The policy to replace values with; might <b>not</b> be null.
+	 * @param function
+	 * 			The function determining the new value of an occurrence from its current one; might <b>not</b> be null.
+	 * @throws ReadonlyPropertyException
+	 * 			If this {@link ReferencedSetter} is a bulk implementation.
+	 */
+	default void setAll(Property<O, V> property, O object, Context context, ExecutionPolicy executionPolicy,
+						Function<? super V, ? extends V> function) throws ReadonlyPropertyException {
+		List<ReferencedValue<Context, V>> occurrences = new ArrayList<>();
+		property.traverse(object, context, TraversingMode.RECURSIVE, true).forEachRemaining(occurrences::add);
+		for (ReferencedValue<Context, V> occurrence: occurrences) {
+			set(property, object, function.apply(occurrence.getValue()), occurrence.getReference());
+		}
+	}
+
 	/**
 	 * Returns whether this {@link ReferencedSetter} actually ís a functioning implementation.
 	 *
@@ -64,6 +103,11 @@ public interface ReferencedSetter<O, V> {
 				ReferencedSetter.this.set(property, objectType.isInstance(object) ? (O) object : null, (V) value, context);
 			}
 
+			@Override
+			public void setAll(Property property, Object object, Context context, ExecutionPolicy executionPolicy, Function function) throws ReadonlyPropertyException {
+				ReferencedSetter.this.setAll(property, objectType.isInstance(object) ? (O) object : null, context, executionPolicy, function);
+			}
+
 			@Override
 			public boolean isWritable() {
 				return ReferencedSetter.this.isWritable();
@@ -2,9 +2,12 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 public class SelfReferencedGetter<V> implements ReferencedGetter<V, V> {
 
@@ -15,6 +18,11 @@ public class SelfReferencedGetter<V> implements ReferencedGetter<V, V> {
         return object;
     }
 
+    @Override
+    public Resolution<V> tryGet(Property<V, V> property, V object, Context context, boolean allowNull) {
+        return Resolution.of(object);
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -35,6 +43,18 @@ public class SelfReferencedGetter<V> implements ReferencedGetter<V, V> {
         return Collections.singleton(context);
     }
 
+    @Override
+    public Spliterator<V> values(Property<V, V> property, V object, Context context, TraversingMode traversingMode) {
+        return object == null ? Spliterators.emptySpliterator() : Collections.singleton(object).spliterator();
+    }
+
+    @Override
+    public void extract(Property<V, V> property, V object, Context context, BiConsumer<PropertyReference<?, ?>, ? super V> consumer) {
+        if (object != null) {
+            consumer.accept(null, object);
+        }
+    }
+
     @Override
     public Collection<Context> contextualize(Property<V, V> property, V object, V value, Context context) {
         return Collections.singleton(context);
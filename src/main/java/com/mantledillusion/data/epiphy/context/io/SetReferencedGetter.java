@@ -2,16 +2,21 @@ package com.mantledillusion.data.epiphy.context.io;
 
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.context.reference.ReferencedValue;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 public class SetReferencedGetter<E> implements ReferencedGetter<Set<E>, E> {
@@ -22,25 +27,42 @@ public class SetReferencedGetter<E> implements ReferencedGetter<Set<E>, E> {
 
     @Override
     public E get(Property<Set<E>, E> property, Set<E> object, Context context, boolean allowNull) {
-        if (!context.containsReference(property, PropertyKey.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
             if (allowNull) {
                 return null;
             } else {
-                throw new InterruptedPropertyPathException(property);
+                throw PropertyPathExceptions.interrupted(property);
             }
         } else {
-            PropertyKey<E> reference = context.getReference(property);
             E element = reference.getReference();
             if (!object.contains(element)) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 return element;
             }
         }
     }
 
+    @Override
+    public Resolution<E> tryGet(Property<Set<E>, E> property, Set<E> object, Context context, boolean allowNull) {
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            return Resolution.unreferenced(property);
+        } else if (object == null) {
+            return allowNull ? Resolution.of(null) : Resolution.interrupted(property);
+        } else {
+            E element = reference.getReference();
+            if (!object.contains(element)) {
+                return Resolution.outbound(property, reference);
+            } else {
+                return Resolution.of(element);
+            }
+        }
+    }
+
     @Override
     public Property<?, ?> getParent() {
         return null;
@@ -61,26 +83,91 @@ public class SetReferencedGetter<E> implements ReferencedGetter<Set<E>, E> {
 
     @Override
     public Collection<Context> contextualize(Property<Set<E>, E> property, Set<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
-        boolean hasReference = context.containsReference(property, PropertyKey.class);
-        E element = hasReference ? ((PropertyKey<E>) context.getReference(property, PropertyKey.class)).getReference() : null;
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        boolean hasReference = reference != null;
+        E element = hasReference ? reference.getReference() : null;
         return hasReference ? (element != null || includeNull ?
                 Collections.singleton(context.union(PropertyKey.ofSet(property, element))) : Collections.emptySet()) :
-                object.parallelStream().
+                ExecutionPolicy.getDefault().process(object, elements -> elements.
+                        filter(e -> e != null || includeNull).
+                        map(e -> context.union(PropertyKey.ofSet(property, e))).
+                        collect(Collectors.toSet()));
+    }
+
+    @Override
+    public Spliterator<Context> spliterate(Property<Set<E>, E> property, Set<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        boolean hasReference = reference != null;
+        E element = hasReference ? reference.getReference() : null;
+        return hasReference ? (element != null || includeNull ?
+                Collections.singleton(context.union(PropertyKey.ofSet(property, element))).spliterator() : Spliterators.emptySpliterator()) :
+                object.stream().
                         filter(e -> e != null || includeNull).
                         map(e -> context.union(PropertyKey.ofSet(property, e))).
-                        collect(Collectors.toSet());
+                        spliterator();
+    }
+
+    @Override
+    public Spliterator<ReferencedValue<Context, E>> traverse(Property<Set<E>, E> property, Set<E> object, Context context, TraversingMode traversingMode, boolean includeNull) {
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        boolean hasReference = reference != null;
+        E element = hasReference ? reference.getReference() : null;
+        if (hasReference) {
+            Context elementContext = context.union(PropertyKey.ofSet(property, element));
+            return element != null || includeNull ? Collections.singleton(ReferencedValue.of(elementContext,
+                    get(property, object, elementContext, true))).spliterator() : Spliterators.emptySpliterator();
+        }
+        return object.stream().
+                filter(e -> e != null || includeNull).
+                map(e -> ReferencedValue.of(context.union(PropertyKey.ofSet(property, e)), e)).
+                spliterator();
+    }
+
+    @Override
+    public Spliterator<E> values(Property<Set<E>, E> property, Set<E> object, Context context, TraversingMode traversingMode) {
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        if (reference != null) {
+            E element = reference.getReference() != null ? get(property, object, context, true) : null;
+            return element != null ? Collections.singleton(element).spliterator() : Spliterators.emptySpliterator();
+        } else if (object == null) {
+            return Spliterators.emptySpliterator();
+        }
+        return object.stream().
+                filter(Objects::nonNull).
+                spliterator();
+    }
+
+    @Override
+    public void extract(Property<Set<E>, E> property, Set<E> object, Context context, BiConsumer<PropertyReference<?, ?>, ? super E> consumer) {
+        if (object == null) {
+            return;
+        }
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        if (reference != null) {
+            E element = reference.getReference();
+            if (element != null && object.contains(element)) {
+                consumer.accept(PropertyKey.ofSet(property, element), element);
+            }
+        } else {
+            for (E element : object) {
+                if (element != null) {
+                    consumer.accept(PropertyKey.ofSet(property, element), element);
+                }
+            }
+        }
     }
 
     @Override
     public Collection<Context> contextualize(Property<Set<E>, E> property, Set<E> object, E value, Context context) {
-        boolean hasReference = context.containsReference(property, PropertyKey.class);
-        E element = hasReference ? ((PropertyKey<E>) context.getReference(property, PropertyKey.class)).getReference() : null;
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        boolean hasReference = reference != null;
+        E element = hasReference ? reference.getReference() : null;
         return hasReference ? (Objects.equals(element, value) ?
                 Collections.singleton(context.union(PropertyKey.ofSet(property, element))) : Collections.emptySet()) :
-                object.parallelStream().
+                ExecutionPolicy.getDefault().process(object, elements -> elements.
                         filter(e -> Objects.equals(e, value)).
                         map(e -> context.union(PropertyKey.ofSet(property, e))).
-                        collect(Collectors.toSet());
+                        collect(Collectors.toSet()));
     }
 
     public static <E> SetReferencedGetter<E> from() {
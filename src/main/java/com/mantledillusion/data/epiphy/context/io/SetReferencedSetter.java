@@ -3,9 +3,7 @@ package com.mantledillusion.data.epiphy.context.io;
 import com.mantledillusion.data.epiphy.Property;
 import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
-import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
-import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 
 import java.util.Set;
 
@@ -15,15 +13,15 @@ public class SetReferencedSetter<E> implements ReferencedSetter<Set<E>, E> {
 
     @Override
     public void set(Property<Set<E>, E> property, Set<E> object, E value, Context context) {
-        if (!context.containsReference(property, PropertyKey.class)) {
-            throw new UnreferencedPropertyPathException(property);
+        PropertyKey<E> reference = context.findReference(property, PropertyKey.class);
+        if (reference == null) {
+            throw PropertyPathExceptions.unreferenced(property);
         } else if (object == null) {
-            throw new InterruptedPropertyPathException(property);
+            throw PropertyPathExceptions.interrupted(property);
         } else {
-            PropertyKey<E> reference = context.getReference(property);
             E element = reference.getReference();
             if (!object.contains(element)) {
-                throw new OutboundPropertyPathException(property, reference);
+                throw PropertyPathExceptions.outbound(property, reference);
             } else {
                 object.remove(element);
                 object.add(value);
@@ -9,15 +9,32 @@ import java.util.List;
  */
 public final class PropertyIndex extends PropertyReference<Property<? extends List<?>, ?>, Integer> {
 
-	private PropertyIndex(Property<? extends List<?>, ?> property, int key) {
-		super(property, key);
+	private final int index;
+
+	private PropertyIndex(Property<? extends List<?>, ?> property, int index) {
+		super(property, null);
+		this.index = index;
+	}
+
+	/**
+	 * Returns the index of this {@link PropertyIndex} without boxing it.
+	 *
+	 * @return The index
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+
+	@Override
+	public Integer getReference() {
+		return this.index;
 	}
 
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + getReference();
+		result = prime * result + this.index;
 		result = prime * result + getProperty().hashCode();
 		return result;
 	}
@@ -31,7 +48,7 @@ public final class PropertyIndex extends PropertyReference<Property<? extends Li
 		if (getClass() != obj.getClass())
 			return false;
 		PropertyIndex other = (PropertyIndex) obj;
-		if (getReference() != other.getReference())
+		if (this.index != other.index)
 			return false;
 		if (!getProperty().equals(other.getProperty()))
 			return false;
@@ -40,7 +57,7 @@ public final class PropertyIndex extends PropertyReference<Property<? extends Li
 
 	@Override
 	public String toString() {
-		return "PropertyIndex [property=" + getProperty() + ", index=" + this.getReference() + "]";
+		return "PropertyIndex [property=" + getProperty() + ", index=" + this.index + "]";
 	}
 
 	/**
@@ -58,6 +75,22 @@ public final class PropertyIndex extends PropertyReference<Property<? extends Li
 		} else if (index == null) {
 			throw new IllegalArgumentException("Cannot create an index for a null index.");
 		}
+		return of(listedProperty, index.intValue());
+	}
+
+	/**
+	 * Creates a new {@link PropertyIndex} from a primitive index.
+	 *
+	 * @param listedProperty
+	 * 			The listed property this {@link PropertyIndex} contexts; might <b>not</b> be null.
+	 * @param index
+	 * 			The index of the given {@link Property}'s element.
+	 * @return A new {@link PropertyIndex}, never null
+	 */
+	public static PropertyIndex of(Property<?, ?> listedProperty, int index) {
+		if (listedProperty == null) {
+			throw new IllegalArgumentException("Cannot create an index for a null listed property.");
+		}
 		return new PropertyIndex((Property<? extends List<?>, ?>) listedProperty, index);
 	}
 }
\ No newline at end of file
@@ -12,15 +12,64 @@ import java.util.Objects;
  */
 public class PropertyRoute extends PropertyReference<NodeRetriever<?>, Context[]> {
 
-    private PropertyRoute(NodeRetriever<?> property, Context... reference) {
-        super(property, reference);
+    private final PropertyRoute parent;
+    private final Context context;
+    private final int length;
+    private final int contextsHash;
+    private volatile Context[] contexts;
+
+    private PropertyRoute(NodeRetriever<?> property, PropertyRoute parent, Context context) {
+        super(property, null);
+        this.parent = parent;
+        this.context = context;
+        this.length = parent == null ? 0 : parent.length+1;
+        this.contextsHash = parent == null ? 1 : 31 * parent.contextsHash + context.hashCode();
+    }
+
+    /**
+     * Returns the {@link Context}s of this route's node elements, ordered from the root node downwards.
+     * <p>
+     * The {@link Context}s are linked to the {@link PropertyRoute} they have been appended to, so they are
+     * only gathered into an array on the first call of this method.
+     *
+     * @return The {@link Context}s, never null, might be empty
+     */
+    @Override
+    public Context[] getReference() {
+        Context[] contexts = this.contexts;
+        if (contexts == null) {
+            contexts = new Context[this.length];
+            for (PropertyRoute route = this; route.length > 0; route = route.parent) {
+                contexts[route.length-1] = route.context;
+            }
+            this.contexts = contexts;
+        }
+        return contexts;
+    }
+
+    /**
+     * Returns the amount of {@link Context}s in this route.
+     *
+     * @return The length of this route; always &gt;=0
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Returns the route this route has been created from by appending its last {@link Context}.
+     *
+     * @return The prefix route, null if this route is empty
+     */
+    public PropertyRoute getPrefix() {
+        return this.parent;
     }
 
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + Arrays.hashCode(getReference());
+        result = prime * result + this.contextsHash;
         result = prime * result + getProperty().hashCode();
         return result;
     }
@@ -34,10 +83,17 @@ public class PropertyRoute extends PropertyReference<NodeRetriever<?>, Context[]
         if (getClass() != obj.getClass())
             return false;
         PropertyRoute other = (PropertyRoute) obj;
-        if (!Arrays.equals(getReference(), other.getReference()))
+        if (this.length != other.length || this.contextsHash != other.contextsHash)
             return false;
         if (!getProperty().equals(other.getProperty()))
             return false;
+        PropertyRoute route = this;
+        while (route != other && route.length > 0) {
+            if (!route.context.equals(other.context))
+                return false;
+            route = route.parent;
+            other = other.parent;
+        }
         return true;
     }
 
@@ -57,10 +113,7 @@ public class PropertyRoute extends PropertyReference<NodeRetriever<?>, Context[]
         if (context == null) {
             throw new IllegalArgumentException("Cannot append a route with a null context");
         }
-        Context[] currentReferences = getReference();
-        Context[] references = Arrays.copyOf(currentReferences, currentReferences.length+1);
-        references[currentReferences.length] = context;
-        return new PropertyRoute(getProperty(), references);
+        return new PropertyRoute(getProperty(), this, context);
     }
 
     /**
@@ -81,6 +134,10 @@ public class PropertyRoute extends PropertyReference<NodeRetriever<?>, Context[]
         } else if (contexts == null || Arrays.stream(contexts).anyMatch(Objects::isNull)) {
             throw new IllegalArgumentException("Cannot create a route for a null context.");
         }
-        return new PropertyRoute(nodeRetriever, contexts);
+        PropertyRoute route = new PropertyRoute(nodeRetriever, null, null);
+        for (Context context: contexts) {
+            route = new PropertyRoute(nodeRetriever, route, context);
+        }
+        return route;
     }
 }
@@ -7,6 +7,8 @@ import com.mantledillusion.data.epiphy.Property;
  */
 public class InterruptedPropertyPathException extends NullPointerException {
 
+	private final Property<?, ?> property;
+
 	/**
 	 * Constructor.
 	 * 
@@ -14,6 +16,25 @@ public class InterruptedPropertyPathException extends NullPointerException {
 	 *            The {@link Property} whose object was null so its value could not be processed; might <b>not</b> be null.
 	 */
 	public InterruptedPropertyPathException(Property<?, ?> property) {
-		super("Unable to process a value of property '" + property + "'; the object to process the value on was null.");
+		this.property = property;
+	}
+
+	/**
+	 * Returns the {@link Property} whose object was null.
+	 *
+	 * @return The {@link Property}, never null
+	 */
+	public Property<?, ?> getProperty() {
+		return this.property;
+	}
+
+	@Override
+	public String getMessage() {
+		return "Unable to process a value of property '" + this.property + "'; the object to process the value on was null.";
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return PropertyPathExceptions.isLightweight() ? this : super.fillInStackTrace();
 	}
 }
@@ -9,6 +9,9 @@ import com.mantledillusion.data.epiphy.Property;
  */
 public class OutboundPropertyPathException extends IllegalStateException {
 
+	private final Property<?, ?> property;
+	private final PropertyReference<?, ?> reference;
+
 	/**
 	 * Constructor.
 	 *
@@ -18,6 +21,35 @@ public class OutboundPropertyPathException extends IllegalStateException {
 	 *            The {@link PropertyReference} whose reference was out of bounds; might <b>not</b> be null.
 	 */
 	public OutboundPropertyPathException(Property<?, ?> property, PropertyReference<?, ?> reference) {
-		super("The property reference " + reference + " is out of bounds for the property " + property);
+		this.property = property;
+		this.reference = reference;
+	}
+
+	/**
+	 * Returns the {@link Property} whose reference was out of bounds.
+	 *
+	 * @return The {@link Property}, never null
+	 */
+	public Property<?, ?> getProperty() {
+		return this.property;
+	}
+
+	/**
+	 * Returns the {@link PropertyReference} whose reference was out of bounds.
+	 *
+	 * @return The {@link PropertyReference}, never null
+	 */
+	public PropertyReference<?, ?> getReference() {
+		return this.reference;
+	}
+
+	@Override
+	public String getMessage() {
+		return "The property reference " + this.reference + " is out of bounds for the property " + this.property;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return PropertyPathExceptions.isLightweight() ? this : super.fillInStackTrace();
 	}
 }
@@ -0,0 +1,95 @@
+package com.mantledillusion.data.epiphy.exception;
+
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Factory for the exceptions thrown when a {@link Property}'s path cannot be followed.
+ * <p>
+ * By default, every exception is a new instance with a full stack trace. In lightweight mode, exceptions are created
+ * without a stack trace, which makes probing optional paths using try/catch considerably cheaper. Additionally,
+ * {@link UnreferencedPropertyPathException}s are preallocated once per {@link Property} and reused; these shared
+ * instances do not record suppressed exceptions and only refer to their {@link Property} weakly, so they neither
+ * collect state across threads nor keep their {@link Property} from being collected.
+ * {@link InterruptedPropertyPathException}s are {@link NullPointerException}s, which always record suppressed
+ * exceptions, so they are still created per failure.
+ * <p>
+ * In any mode, the messages of the exceptions are only built when requested.
+ */
+public final class PropertyPathExceptions {
+
+    private static final Map<Property<?, ?>, UnreferencedPropertyPathException> UNREFERENCES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static volatile boolean lightweight;
+
+    private PropertyPathExceptions() {}
+
+    /**
+     * Returns whether exceptions are created in lightweight mode.
+     *
+     * @return True if exceptions are created without stack traces and reused, false otherwise
+     */
+    public static boolean isLightweight() {
+        return lightweight;
+    }
+
+    /**
+     * Sets whether exceptions are created in lightweight mode.
+     * <p>
+     * Since exceptions created in lightweight mode do not contain a stack trace and might be thrown more than once,
+     * they are only recommendable for expected failures that are caught and handled without the need for
+     * diagnosis.
+     *
+     * @param lightweight
+     *          True if exceptions should be created without stack traces and be reused, false otherwise.
+     */
+    public static void setLightweight(boolean lightweight) {
+        PropertyPathExceptions.lightweight = lightweight;
+        if (!lightweight) {
+            UNREFERENCES.clear();
+        }
+    }
+
+    /**
+     * Returns an {@link InterruptedPropertyPathException} for the given {@link Property}.
+     *
+     * @param property
+     *          The {@link Property} whose object was null so its value could not be processed; might <b>not</b> be null.
+     * @return A new {@link InterruptedPropertyPathException}, never null
+     */
+    public static InterruptedPropertyPathException interrupted(Property<?, ?> property) {
+        return new InterruptedPropertyPathException(property);
+    }
+
+    /**
+     * Returns an {@link UnreferencedPropertyPathException} for the given {@link Property}.
+     *
+     * @param property
+     *          The {@link Property} no reference was provided for; might <b>not</b> be null.
+     * @return An {@link UnreferencedPropertyPathException}, never null
+     */
+    public static UnreferencedPropertyPathException unreferenced(Property<?, ?> property) {
+        return lightweight ? UNREFERENCES.computeIfAbsent(property,
+                p -> new UnreferencedPropertyPathException(new WeakReference<>(p))) :
+                new UnreferencedPropertyPathException(property);
+    }
+
+    /**
+     * Returns an {@link OutboundPropertyPathException} for the given {@link Property} and {@link PropertyReference}.
+     *
+     * @param property
+     *          The {@link Property} whose reference was out of bounds; might <b>not</b> be null.
+     * @param reference
+     *          The {@link PropertyReference} whose reference was out of bounds; might <b>not</b> be null.
+     * @return A new {@link OutboundPropertyPathException}, never null
+     */
+    public static OutboundPropertyPathException outbound(Property<?, ?> property, PropertyReference<?, ?> reference) {
+        return new OutboundPropertyPathException(property, reference);
+    }
+}
@@ -2,12 +2,17 @@ package com.mantledillusion.data.epiphy.exception;
 
 import com.mantledillusion.data.epiphy.Property;
 
+import java.lang.ref.WeakReference;
+
 /**
  * Exception that might be thrown if a referenced {@link Property} occurs during an processing, but there is no
  * {@link com.mantledillusion.data.epiphy.context.reference.PropertyReference} provided for it.
  */
 public final class UnreferencedPropertyPathException extends RuntimeException {
 
+	private final Property<?, ?> property;
+	private final WeakReference<Property<?, ?>> sharedProperty;
+
 	/**
 	 * Constructor.
 	 * 
@@ -15,6 +20,36 @@ public final class UnreferencedPropertyPathException extends RuntimeException {
 	 *            The {@link Property} no reference was provided for; might <b>not</b> be null.
 	 */
 	public UnreferencedPropertyPathException(Property<?, ?> property) {
-		super("No reference provided for referenced property '" + property + "'");
+		this.property = property;
+		this.sharedProperty = null;
+	}
+
+	UnreferencedPropertyPathException(WeakReference<Property<?, ?>> sharedProperty) {
+		super(null, null, false, false);
+		this.property = null;
+		this.sharedProperty = sharedProperty;
+	}
+
+	/**
+	 * Returns the {@link Property} no reference was provided for.
+	 * <p>
+	 * Preallocated instances only refer to their {@link Property} weakly, so they do not keep it from being
+	 * collected.
+	 *
+	 * @return The {@link Property}, only null if this is a preallocated instance whose {@link Property} has been
+	 * collected
+	 */
+	public Property<?, ?> getProperty() {
+		return this.property != null ? this.property : this.sharedProperty.get();
+	}
+
+	@Override
+	public String getMessage() {
+		return "No reference provided for referenced property '" + getProperty() + "'";
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return PropertyPathExceptions.isLightweight() ? this : super.fillInStackTrace();
 	}
 }
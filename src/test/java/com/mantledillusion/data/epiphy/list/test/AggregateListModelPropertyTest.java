@@ -0,0 +1,64 @@
+package com.mantledillusion.data.epiphy.list.test;
+
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
+import com.mantledillusion.data.epiphy.list.ListModelProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregateListModelPropertyTest extends AbstractListModelPropertyTest {
+
+	@Test
+	public void testCount() {
+		this.model.get(0).add(null);
+		assertEquals(3, ListModelProperties.ELEMENTLIST_TO_ELEMENT.count(this.model));
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
+		assertEquals(2, ListModelProperties.ELEMENTLIST_TO_ELEMENT.count(this.model, context, false));
+	}
+
+	@Test
+	public void testMinMax() {
+		assertEquals(ELEMENT_0_ELEMENT_0, ListModelProperties.ELEMENTLIST_TO_ELEMENT.min(this.model, Comparator.naturalOrder()).get());
+		assertEquals(ELEMENT_1_ELEMENT_0, ListModelProperties.ELEMENTLIST_TO_ELEMENT.max(this.model, Comparator.naturalOrder()).get());
+		assertFalse(ListModelProperties.ELEMENTLIST_TO_ELEMENT.min(null, Comparator.naturalOrder()).isPresent());
+	}
+
+	@Test
+	public void testSumAverage() {
+		assertEquals(15, ListModelProperties.ELEMENTLIST_TO_ELEMENT.sum(this.model, String::length));
+		assertEquals(5, ListModelProperties.ELEMENTLIST_TO_ELEMENT.average(this.model, String::length).getAsDouble());
+		assertEquals(15, ListModelProperties.ELEMENTLIST_TO_ELEMENT.sumAsInt(this.model, String::length));
+		assertEquals(Long.MAX_VALUE - 1, ListModelProperties.ELEMENTLIST_TO_ELEMENT.sumAsLong(this.model,
+				element -> element == ELEMENT_0_ELEMENT_0 ? Long.MAX_VALUE - 11 : element.length()));
+	}
+
+	@Test
+	public void testReduce() {
+		assertEquals(ELEMENT_0_ELEMENT_0 + ELEMENT_0_ELEMENT_1 + ELEMENT_1_ELEMENT_0,
+				ListModelProperties.ELEMENTLIST_TO_ELEMENT.reduce(this.model, String::concat).get());
+		assertEquals(Integer.valueOf(15), ListModelProperties.ELEMENTLIST_TO_ELEMENT.reduce(this.model, 0,
+				(sum, element) -> sum + element.length(), Integer::sum));
+	}
+
+	@Test
+	public void testParallel() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			elements.add(String.valueOf(i % 10));
+		}
+		this.model.add(elements);
+		assertEquals(10003, ListModelProperties.ELEMENTLIST_TO_ELEMENT.count(this.model, null, true));
+		assertEquals(45000, ListModelProperties.ELEMENTLIST_TO_ELEMENT.sum(this.model, null, true,
+				element -> element.length() == 1 ? Integer.parseInt(element) : 0));
+		assertEquals(45000, ListModelProperties.ELEMENTLIST_TO_ELEMENT.sumAsLong(this.model, null, true,
+				element -> element.length() == 1 ? Long.parseLong(element) : 0));
+		assertEquals(ListModelProperties.ELEMENTLIST_TO_ELEMENT.reduce(this.model, String::concat).get(),
+				ListModelProperties.ELEMENTLIST_TO_ELEMENT.reduce(this.model, null, true, String::concat).get());
+	}
+}
@@ -0,0 +1,80 @@
+package com.mantledillusion.data.epiphy.list.test;
+
+import com.mantledillusion.data.epiphy.ModelPropertyInt;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.column.IntColumn;
+import com.mantledillusion.data.epiphy.context.column.ObjectColumn;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.context.reference.PropertyReference;
+import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
+import com.mantledillusion.data.epiphy.list.ListModelProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnListModelPropertyTest extends AbstractListModelPropertyTest {
+
+	@Test
+	public void testColumn() {
+		this.model.get(0).add(null);
+		ObjectColumn<String> column = ListModelProperties.ELEMENTLIST_TO_ELEMENT.column(this.model);
+		assertEquals(3, column.size());
+		assertArrayEquals(new Object[] {ELEMENT_0_ELEMENT_0, ELEMENT_0_ELEMENT_1, ELEMENT_1_ELEMENT_0}, column.getValues());
+		assertArrayEquals(new PropertyReference<?, ?>[] {
+				PropertyIndex.of(ListModelProperties.ELEMENT, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 1),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 0)}, column.getReferences());
+		assertSame(ELEMENT_0_ELEMENT_1, column.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> {
+			column.get(3);
+		});
+	}
+
+	@Test
+	public void testColumnReferenced() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 1));
+		ObjectColumn<String> column = ListModelProperties.ELEMENTLIST_TO_ELEMENT.column(this.model, context);
+		assertArrayEquals(new Object[] {ELEMENT_1_ELEMENT_0}, column.getValues());
+		assertEquals(0, ListModelProperties.ELEMENTLIST_TO_ELEMENT.column(null).size());
+	}
+
+	@Test
+	public void testColumnAsPrimitive() {
+		ModelPropertyInt<List<List<String>>> length = ListModelProperties.ELEMENTLIST_TO_ELEMENT.
+				append(ModelPropertyInt.fromObject(String::length));
+		this.model.get(1).add("e1_e1_long");
+		IntColumn column = length.columnAsInt(this.model);
+		assertArrayEquals(new int[] {5, 5, 5, 10}, column.getValues());
+		assertEquals(PropertyIndex.of(ListModelProperties.ELEMENT, 1), column.getReference(3));
+	}
+
+	@Test
+	public void testColumnGrowingDuringExtraction() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add(i % 10 == 0 ? null : String.valueOf(i));
+		}
+		this.model.add(elements);
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 2));
+		ObjectColumn<String> column = ListModelProperties.ELEMENTLIST_TO_ELEMENT.column(this.model, context);
+		assertEquals(900, column.size());
+		assertEquals(900, column.getValues().length);
+		assertEquals("1", column.get(0));
+		assertEquals("999", column.get(899));
+	}
+
+	@Test
+	public void testColumnGrowth() {
+		IntColumn column = IntColumn.of(0);
+		for (int i = 0; i < 100; i++) {
+			column.accept(null, i);
+		}
+		assertEquals(100, column.size());
+		assertEquals(100, column.getValues().length);
+		assertEquals(99, column.get(99));
+		assertEquals(8, column.get(8));
+	}
+}
@@ -0,0 +1,72 @@
+package com.mantledillusion.data.epiphy.list.test;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
+import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
+import com.mantledillusion.data.epiphy.list.ListModelProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompileListModelPropertyTest extends AbstractListModelPropertyTest {
+
+	private static final ModelProperty<List<List<String>>, String> COMPILED = ListModelProperties.ELEMENTLIST_TO_ELEMENT.compile();
+
+	@Test
+	public void testCompiledFactorization() {
+		assertNotSame(ListModelProperties.ELEMENTLIST_TO_ELEMENT, COMPILED);
+		assertEquals(ListModelProperties.ELEMENTLIST_TO_ELEMENT.getId(), COMPILED.getId());
+		assertEquals(ListModelProperties.ELEMENTLIST_TO_ELEMENT.getHierarchy(), COMPILED.getHierarchy());
+		assertTrue(COMPILED.isWritable());
+	}
+
+	@Test
+	public void testCompiledGet() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 1),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 0));
+		assertSame(ELEMENT_1_ELEMENT_0, COMPILED.get(this.model, context));
+	}
+
+	@Test
+	public void testCompiledGetInterrupted() {
+		this.model.set(0, null);
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 0));
+		assertThrows(InterruptedPropertyPathException.class, () -> COMPILED.get(this.model, context));
+		assertNull(COMPILED.get(this.model, context, true));
+	}
+
+	@Test
+	public void testCompiledGetUnreferenced() {
+		assertThrows(UnreferencedPropertyPathException.class, () -> COMPILED.get(this.model));
+	}
+
+	@Test
+	public void testCompiledSet() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 1));
+		COMPILED.set(this.model, NEW_ELEMENT, context);
+		assertSame(NEW_ELEMENT, ListModelProperties.ELEMENTLIST_TO_ELEMENT.get(this.model, context));
+	}
+
+	@Test
+	public void testCompiledSetOutbound() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 2));
+		assertThrows(OutboundPropertyPathException.class, () -> COMPILED.set(this.model, NEW_ELEMENT, context));
+	}
+
+	@Test
+	public void testCompiledContexting() {
+		for (Context context: COMPILED.contextualize(this.model)) {
+			assertSame(ListModelProperties.ELEMENTLIST_TO_ELEMENT.get(this.model, context), COMPILED.get(this.model, context));
+		}
+		assertEquals(ListModelProperties.ELEMENTLIST_TO_ELEMENT.contextualize(this.model), COMPILED.contextualize(this.model));
+	}
+}
@@ -1,6 +1,9 @@
 package com.mantledillusion.data.epiphy.list.test;
 
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.ModelPropertyList;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ValueIndex;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
@@ -95,6 +98,25 @@ public class ContextListModelPropertyTest extends AbstractListModelPropertyTest
         Assertions.assertSame(ELEMENT_0_ELEMENT_1, ListModelProperties.ELEMENT.get(list, context));
     }
 
+    @Test
+    public void testValueIndexedContexting() {
+        ModelProperty<List<List<String>>, String> property = ModelPropertyList.<String>fromList().append(ModelProperty.fromList());
+        Collection<Context> expected = property.contextualize(this.model, ELEMENT_0_ELEMENT_1);
+        ValueIndex<List<List<String>>, String> index = ValueIndex.of(this.model);
+        property.setValueIndex(index);
+
+        Collection<Context> contexts = property.contextualize(this.model, ELEMENT_0_ELEMENT_1);
+        Assertions.assertTrue(index.isBuilt());
+        Assertions.assertEquals(new HashSet<>(expected), new HashSet<>(contexts));
+
+        Context context = contexts.iterator().next();
+        property.set(this.model, NEW_ELEMENT, context.union(PropertyIndex.of(ListModelProperties.ELEMENT, 5)));
+        Assertions.assertTrue(index.isBuilt());
+        Assertions.assertTrue(property.contextualize(this.model, ELEMENT_0_ELEMENT_1).isEmpty());
+        Assertions.assertEquals(Collections.singletonList(context), property.contextualize(this.model, NEW_ELEMENT));
+        Assertions.assertEquals(1, property.contextualize(this.model, ELEMENT_1_ELEMENT_0).size());
+    }
+
     @Test
     public void testStream() {
         Queue<String> expected = new ArrayDeque<>(Arrays.asList(ELEMENT_0_ELEMENT_0, ELEMENT_0_ELEMENT_1, ELEMENT_1_ELEMENT_0));
@@ -122,4 +144,30 @@ public class ContextListModelPropertyTest extends AbstractListModelPropertyTest
         Assertions.assertSame(this.model.get(1).get(0), ListModelProperties.ELEMENTLIST_TO_ELEMENT.successor(this.model, this.model.get(0).get(1)));
         Assertions.assertSame(null, ListModelProperties.ELEMENTLIST_TO_ELEMENT.successor(this.model, this.model.get(1).get(0)));
     }
+
+    @Test
+    public void testSpliterate() {
+        List<Context> expected = new ArrayList<>(ListModelProperties.ELEMENTLIST_TO_ELEMENT.contextualize(this.model));
+        List<Context> actual = new ArrayList<>();
+        ListModelProperties.ELEMENTLIST_TO_ELEMENT.spliterate(this.model).forEachRemaining(actual::add);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSpliterateLazily() {
+        List<String> list = new ArrayList<String>(Collections.nCopies(1000, ELEMENT_0_ELEMENT_0)) {
+
+            @Override
+            public String get(int index) {
+                if (index > 1) {
+                    Assertions.fail("Element " + index + " should not have been touched");
+                }
+                return super.get(index);
+            }
+        };
+        list.set(1, ELEMENT_0_ELEMENT_1);
+
+        Assertions.assertSame(ELEMENT_0_ELEMENT_1, ListModelProperties.ELEMENT.successor(list, list.get(0)));
+        Assertions.assertEquals(ELEMENT_0_ELEMENT_0, ListModelProperties.ELEMENT.stream(list).findFirst().orElse(null));
+    }
 }
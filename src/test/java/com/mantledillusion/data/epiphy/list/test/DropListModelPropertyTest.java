@@ -1,6 +1,8 @@
 package com.mantledillusion.data.epiphy.list.test;
 
+import com.mantledillusion.data.epiphy.ModelPropertyList;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.PositionIndex;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
@@ -10,6 +12,9 @@ import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DropListModelPropertyTest extends AbstractListModelPropertyTest {
@@ -22,6 +27,56 @@ public class DropListModelPropertyTest extends AbstractListModelPropertyTest {
 		assertSame(ELEMENT_0_ELEMENT_1, this.model.get(0).get(0));
 	}
 
+	@Test
+	public void testDropAll() {
+		ModelPropertyList<List<List<String>>, String> property = ModelPropertyList.fromList();
+		Context context = Context.of(PropertyIndex.of(property, 0));
+		property.setPositionIndex(PositionIndex.of(this.model.get(0)));
+		this.model.get(0).addAll(Arrays.asList(NEW_ELEMENT, ELEMENT_0_ELEMENT_1));
+
+		assertSame(ELEMENT_0_ELEMENT_1, property.successorOf(this.model, ELEMENT_0_ELEMENT_0, context));
+		assertEquals(2, property.dropAll(this.model, Arrays.asList(ELEMENT_0_ELEMENT_1, ELEMENT_1_ELEMENT_0), context));
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0, NEW_ELEMENT), this.model.get(0));
+		assertSame(ELEMENT_0_ELEMENT_0, property.predecessorOf(this.model, NEW_ELEMENT, context));
+		assertEquals(0, property.dropAll(this.model, Arrays.asList(ELEMENT_1_ELEMENT_0), context));
+	}
+
+	@Test
+	public void testDropIndexed() {
+		ModelPropertyList<List<List<String>>, String> property = ModelPropertyList.fromList();
+		Context context = Context.of(PropertyIndex.of(property, 0));
+		property.setPositionIndex(PositionIndex.of(this.model.get(0)));
+
+		assertEquals(1, (int) property.dropIdentical(this.model, ELEMENT_0_ELEMENT_1, context));
+		property.insert(this.model, NEW_ELEMENT, 0, context);
+		property.include(this.model, ELEMENT_0_ELEMENT_1, context);
+		assertEquals(Arrays.asList(NEW_ELEMENT, ELEMENT_0_ELEMENT_0, ELEMENT_0_ELEMENT_1), this.model.get(0));
+		assertSame(NEW_ELEMENT, property.predecessorOf(this.model, ELEMENT_0_ELEMENT_0, context));
+		assertSame(ELEMENT_0_ELEMENT_1, property.successorOf(this.model, ELEMENT_0_ELEMENT_0, context));
+		assertNull(property.successorOf(this.model, ELEMENT_0_ELEMENT_1, context));
+
+		this.model.get(0).remove(0);
+		assertNull(property.predecessorOf(this.model, ELEMENT_0_ELEMENT_0, context));
+		assertEquals(1, (int) property.dropIdentical(this.model, ELEMENT_0_ELEMENT_1, context));
+		assertThrows(IllegalArgumentException.class, () -> {
+			property.predecessorOf(this.model, ELEMENT_0_ELEMENT_1, context);
+		});
+	}
+
+	@Test
+	public void testDropIndexedByEquality() {
+		ModelPropertyList<List<List<String>>, String> property = ModelPropertyList.fromList();
+		Context context = Context.of(PropertyIndex.of(property, 0));
+		property.setPositionIndex(PositionIndex.of(this.model.get(0)));
+
+		String equalElement = new String(ELEMENT_0_ELEMENT_1);
+		assertThrows(UnknownDropableElementException.class, () -> {
+			property.dropIdentical(this.model, equalElement, context);
+		});
+		assertEquals(1, (int) property.drop(this.model, equalElement, context));
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0), this.model.get(0));
+	}
+
 	@Test
 	public void testDropUnknown() {
 		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
@@ -10,6 +10,8 @@ import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ExtractListModelPropertyTest extends AbstractListModelPropertyTest {
@@ -22,6 +24,19 @@ public class ExtractListModelPropertyTest extends AbstractListModelPropertyTest
 		assertSame(ELEMENT_0_ELEMENT_0, this.model.get(0).get(0));
 	}
 
+	@Test
+	public void testExtractRange() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
+		this.model.get(0).add(NEW_ELEMENT);
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_1, NEW_ELEMENT),
+				ListModelProperties.ELEMENTLIST.extractRange(this.model, 1, 3, context));
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0), this.model.get(0));
+		assertTrue(ListModelProperties.ELEMENTLIST.extractRange(this.model, 1, 1, context).isEmpty());
+		assertThrows(OutboundExtractableReferenceException.class, () -> {
+			ListModelProperties.ELEMENTLIST.extractRange(this.model, 0, 2, context);
+		});
+	}
+
 	@Test
 	public void testExtractUnknown() {
 		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
@@ -1,16 +1,23 @@
 package com.mantledillusion.data.epiphy.list.test;
 
+import com.mantledillusion.data.epiphy.ModelPropertyList;
+import com.mantledillusion.data.epiphy.Property;
+import com.mantledillusion.data.epiphy.context.CompilationMode;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.Resolution;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertSame;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class GetListModelPropertyTest extends AbstractListModelPropertyTest {
 
@@ -38,6 +45,37 @@ public class GetListModelPropertyTest extends AbstractListModelPropertyTest {
 		});
 	}
 
+	@Test
+	public void testGetUnreferencedLightweight() throws InterruptedException {
+		PropertyPathExceptions.setLightweight(true);
+		try {
+			WeakReference<Property<?, ?>> discarded = throwUnreferenced();
+			for (int i = 0; i < 100 && discarded.get() != null; i++) {
+				System.gc();
+				Thread.sleep(10);
+			}
+			assertNull(discarded.get());
+		} finally {
+			PropertyPathExceptions.setLightweight(false);
+		}
+	}
+
+	private WeakReference<Property<?, ?>> throwUnreferenced() {
+		ModelPropertyList<List<List<String>>, String> property = ModelPropertyList.fromList();
+		UnreferencedPropertyPathException first = assertThrows(UnreferencedPropertyPathException.class, () -> {
+			property.get(this.model);
+		});
+		UnreferencedPropertyPathException second = assertThrows(UnreferencedPropertyPathException.class, () -> {
+			property.get(this.model);
+		});
+		assertSame(first, second);
+		assertSame(property, first.getProperty());
+		assertEquals(0, first.getStackTrace().length);
+		first.addSuppressed(new IllegalStateException());
+		assertEquals(0, first.getSuppressed().length);
+		return new WeakReference<>(property);
+	}
+
 	@Test
 	public void testGetOutbound() {
 		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
@@ -46,4 +84,45 @@ public class GetListModelPropertyTest extends AbstractListModelPropertyTest {
 			ListModelProperties.ELEMENTLIST_TO_ELEMENT.get(this.model, context);
 		});
 	}
+
+	@Test
+	public void testTryGet() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 0));
+		Resolution<String> resolution = ListModelProperties.ELEMENTLIST_TO_ELEMENT.tryGet(this.model, context);
+		assertTrue(resolution.isResolved());
+		assertSame(this.model.get(0).get(0), resolution.getValue());
+	}
+
+	@Test
+	public void testTryGetInterrupted() {
+		this.model.set(0, null);
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0),
+				PropertyIndex.of(ListModelProperties.ELEMENT, 1));
+		Resolution<String> resolution = ListModelProperties.ELEMENTLIST_TO_ELEMENT.tryGet(this.model, context);
+		assertEquals(Resolution.Failure.INTERRUPTED, resolution.getFailure());
+		assertSame(ListModelProperties.ELEMENT, resolution.getSegment());
+		assertTrue(ListModelProperties.ELEMENTLIST_TO_ELEMENT.tryGet(this.model, context, true).isResolved());
+		assertThrows(InterruptedPropertyPathException.class, resolution::orElseThrow);
+	}
+
+	@Test
+	public void testTryGetUnreferenced() {
+		Resolution<String> resolution = ListModelProperties.ELEMENTLIST_TO_ELEMENT.tryGet(this.model);
+		assertEquals(Resolution.Failure.UNREFERENCED, resolution.getFailure());
+		assertSame(ListModelProperties.ELEMENTLIST, resolution.getSegment());
+	}
+
+	@Test
+	public void testTryGetOutbound() {
+		PropertyIndex reference = PropertyIndex.of(ListModelProperties.ELEMENT, 2);
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0), reference);
+		for (CompilationMode mode: CompilationMode.values()) {
+			Resolution<String> resolution = ListModelProperties.ELEMENTLIST_TO_ELEMENT.compile(mode).tryGet(this.model, context);
+			assertEquals(Resolution.Failure.OUTBOUND, resolution.getFailure());
+			assertSame(ListModelProperties.ELEMENT, resolution.getSegment());
+			assertSame(reference, resolution.getReference());
+			assertEquals("fallback", resolution.orElse("fallback"));
+		}
+	}
 }
@@ -9,6 +9,8 @@ import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class IncludeListModelPropertyTest extends AbstractListModelPropertyTest {
@@ -21,6 +23,24 @@ public class IncludeListModelPropertyTest extends AbstractListModelPropertyTest
 		assertSame(NEW_ELEMENT, this.model.get(0).get(2));
 	}
 
+	@Test
+	public void testIncludeAsInt() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
+		assertEquals(2, ListModelProperties.ELEMENTLIST.includeAsInt(this.model, NEW_ELEMENT, context));
+		assertSame(NEW_ELEMENT, ListModelProperties.ELEMENTLIST.extract(this.model, 2, context));
+		assertEquals(2, this.model.get(0).size());
+	}
+
+	@Test
+	public void testIncludeAll() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
+		assertEquals(2, ListModelProperties.ELEMENTLIST.includeAll(this.model, Arrays.asList(NEW_ELEMENT, null), context));
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0, ELEMENT_0_ELEMENT_1, NEW_ELEMENT, null), this.model.get(0));
+		assertThrows(IllegalArgumentException.class, () -> {
+			ListModelProperties.ELEMENTLIST.includeAll(this.model, null, context);
+		});
+	}
+
 	@Test
 	public void testIncludeInterrupted() {
 		this.model.set(0, null);
@@ -1,5 +1,6 @@
 package com.mantledillusion.data.epiphy.list.test;
 
+import com.mantledillusion.data.epiphy.ModelPropertyList;
 import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
@@ -10,6 +11,10 @@ import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class InsertListModelPropertyTest extends AbstractListModelPropertyTest {
@@ -22,6 +27,29 @@ public class InsertListModelPropertyTest extends AbstractListModelPropertyTest {
 		assertSame(NEW_ELEMENT, this.model.get(0).get(0));
 	}
 
+	@Test
+	public void testInsertAt() {
+		ModelPropertyList<List<List<Integer>>, Integer> property = ModelPropertyList.fromList();
+		List<List<Integer>> model = new ArrayList<>(Arrays.asList(new ArrayList<>(Arrays.asList(1, 2))));
+		Context context = Context.of(PropertyIndex.of(property, 0));
+		property.insert(model, 5, 0, context);
+		property.insertAt(model, 6, 3, context);
+		assertEquals(Arrays.asList(5, 1, 2, 6), model.get(0));
+		assertThrows(OutboundInsertableReferenceException.class, () -> {
+			property.insertAt(model, 7, 5, context);
+		});
+	}
+
+	@Test
+	public void testInsertAll() {
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
+		ListModelProperties.ELEMENTLIST.insertAll(this.model, Arrays.asList(NEW_ELEMENT, NEW_ELEMENT), 1, context);
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0, NEW_ELEMENT, NEW_ELEMENT, ELEMENT_0_ELEMENT_1), this.model.get(0));
+		assertThrows(OutboundInsertableReferenceException.class, () -> {
+			ListModelProperties.ELEMENTLIST.insertAll(this.model, Arrays.asList(NEW_ELEMENT), 5, context);
+		});
+	}
+
 	@Test
 	public void testInsertUnknown() {
 		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 0));
@@ -1,6 +1,7 @@
 package com.mantledillusion.data.epiphy.list.test;
 
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
@@ -9,6 +10,13 @@ import com.mantledillusion.data.epiphy.list.AbstractListModelPropertyTest;
 import com.mantledillusion.data.epiphy.list.ListModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -22,6 +30,39 @@ public class SetListModelPropertyTest extends AbstractListModelPropertyTest {
 		assertSame(NEW_ELEMENT, ListModelProperties.ELEMENTLIST_TO_ELEMENT.get(this.model, context));
 	}
 
+	@Test
+	public void testSetAll() {
+		this.model.get(0).add(null);
+		ListModelProperties.ELEMENTLIST_TO_ELEMENT.setAll(this.model, element -> element == null ? NEW_ELEMENT : element + '!');
+		assertEquals(Arrays.asList(ELEMENT_0_ELEMENT_0 + '!', ELEMENT_0_ELEMENT_1 + '!', NEW_ELEMENT), this.model.get(0));
+		assertEquals(Collections.singletonList(ELEMENT_1_ELEMENT_0 + '!'), this.model.get(1));
+
+		Context context = Context.of(PropertyIndex.of(ListModelProperties.ELEMENTLIST, 1));
+		ListModelProperties.ELEMENTLIST_TO_ELEMENT.setAll(this.model, context, element -> NEW_ELEMENT);
+		assertEquals(Collections.singletonList(NEW_ELEMENT), this.model.get(1));
+		assertEquals(ELEMENT_0_ELEMENT_0 + '!', this.model.get(0).get(0));
+	}
+
+	@Test
+	public void testSetAllParallel() {
+		List<String> elements = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add(String.valueOf(i));
+		}
+		this.model.add(elements);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ListModelProperties.ELEMENTLIST_TO_ELEMENT.setAll(this.model, null, ExecutionPolicy.parallel(pool, 100), element -> element + '!');
+		} finally {
+			pool.shutdown();
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i + "!", elements.get(i));
+		}
+		assertEquals(ELEMENT_1_ELEMENT_0 + '!', this.model.get(1).get(0));
+	}
+
 	@Test
 	public void testSetInterrupted() {
 		this.model.set(0, null);
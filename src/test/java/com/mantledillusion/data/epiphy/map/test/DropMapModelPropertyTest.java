@@ -1,14 +1,23 @@
 package com.mantledillusion.data.epiphy.map.test;
 
+import com.mantledillusion.data.epiphy.ModelPropertyMap;
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
+import com.mantledillusion.data.epiphy.context.KeyIndex;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.UnknownDropableElementException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 import com.mantledillusion.data.epiphy.map.AbstractMapModelPropertyTest;
 import com.mantledillusion.data.epiphy.map.MapModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DropMapModelPropertyTest extends AbstractMapModelPropertyTest {
@@ -21,6 +30,44 @@ public class DropMapModelPropertyTest extends AbstractMapModelPropertyTest {
 		assertSame(ELEMENT_A_ELEMENT_B, this.model.get("A").values().iterator().next());
 	}
 
+	@Test
+	public void testDropParallel() {
+		ModelPropertyMap<Map<String, Map<String, String>>, String, String> property = ModelPropertyMap.fromMap();
+		Context context = Context.of(PropertyKey.ofMap(property, "A"));
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			property.setExecutionPolicy(ExecutionPolicy.parallel(pool, 1));
+			assertEquals("B", property.drop(this.model, ELEMENT_A_ELEMENT_B, context));
+			assertEquals("A", property.drop(this.model, ELEMENT_A_ELEMENT_A, context));
+			assertTrue(this.model.get("A").isEmpty());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testDropIndexed() {
+		ModelPropertyMap<Map<String, Map<String, String>>, String, String> property = ModelPropertyMap.fromMap();
+		Context context = Context.of(PropertyKey.ofMap(property, "A"));
+		property.setKeyIndex(KeyIndex.of(this.model.get("A")));
+
+		assertEquals("A", property.drop(this.model, ELEMENT_A_ELEMENT_A, context));
+		property.insert(this.model, NEW_ELEMENT, "C", context);
+		property.insert(this.model, NEW_ELEMENT, "B", context);
+		assertThrows(UnknownDropableElementException.class, () -> {
+			property.drop(this.model, ELEMENT_A_ELEMENT_B, context);
+		});
+		assertEquals(new HashSet<>(Arrays.asList("B", "C")), new HashSet<>(Arrays.asList(
+				property.drop(this.model, NEW_ELEMENT, context), property.drop(this.model, NEW_ELEMENT, context))));
+
+		this.model.get("A").put("D", ELEMENT_A_ELEMENT_A);
+		assertEquals("D", property.drop(this.model, ELEMENT_A_ELEMENT_A, context));
+		assertTrue(this.model.get("A").isEmpty());
+		assertThrows(UnknownDropableElementException.class, () -> {
+			property.drop(this.model, ELEMENT_A_ELEMENT_A, context);
+		});
+	}
+
 	@Test
 	public void testDropInterrupted() {
 		this.model.put("A", null);
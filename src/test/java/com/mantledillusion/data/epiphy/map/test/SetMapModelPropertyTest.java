@@ -1,14 +1,19 @@
 package com.mantledillusion.data.epiphy.map.test;
 
+import com.mantledillusion.data.epiphy.ModelProperty;
 import com.mantledillusion.data.epiphy.context.Context;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.exception.OutboundPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
 import com.mantledillusion.data.epiphy.exception.UnreferencedPropertyPathException;
 import com.mantledillusion.data.epiphy.map.AbstractMapModelPropertyTest;
 import com.mantledillusion.data.epiphy.map.MapModelProperties;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -22,6 +27,22 @@ public class SetMapModelPropertyTest extends AbstractMapModelPropertyTest {
 		assertSame(NEW_ELEMENT, MapModelProperties.ELEMENTMAP_TO_ELEMENT.get(this.model, context));
 	}
 
+	@Test
+	public void testSetAll() {
+		MapModelProperties.ELEMENTMAP_TO_ELEMENT.setAll(this.model, NEW_ELEMENT);
+		assertEquals(NEW_ELEMENT, this.model.get("A").get("A"));
+		assertEquals(NEW_ELEMENT, this.model.get("A").get("B"));
+		assertEquals(NEW_ELEMENT, this.model.get("B").get("A"));
+	}
+
+	@Test
+	public void testSetAllReadonly() {
+		ModelProperty<Map<String, String>, String> element = ModelProperty.fromObject(map -> map.get("A"));
+		assertThrows(ReadonlyPropertyException.class, () -> {
+			MapModelProperties.ELEMENTMAP.append(element).setAll(this.model, NEW_ELEMENT);
+		});
+	}
+
 	@Test
 	public void testSetInterrupted() {
 		this.model.put("A", null);
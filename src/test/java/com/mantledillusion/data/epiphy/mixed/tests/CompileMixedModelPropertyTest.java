@@ -0,0 +1,56 @@
+package com.mantledillusion.data.epiphy.mixed.tests;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
+import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.mixed.AbstractMixedModelPropertyTest;
+import com.mantledillusion.data.epiphy.mixed.MixedModelProperties;
+import com.mantledillusion.data.epiphy.mixed.model.MixedModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompileMixedModelPropertyTest extends AbstractMixedModelPropertyTest {
+
+    private static final ModelProperty<MixedModel, String> COMPILED = MixedModelProperties.NODE_ID.compile();
+
+    @Test
+    public void testCompiledGet() {
+        for (Context context: MixedModelProperties.NODE_ID.contextualize(this.model)) {
+            Assertions.assertSame(MixedModelProperties.NODE_ID.get(this.model, context), COMPILED.get(this.model, context));
+        }
+    }
+
+    @Test
+    public void testCompiledSet() {
+        Context context = Context.of(PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(),
+                Context.of(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0)),
+                Context.of(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0))));
+        COMPILED.set(this.model, "newId", context);
+        Assertions.assertEquals("newId", this.model.getRoot().getNode().getSub().getSubNodes().get(0).getSub().getSubNodes().get(0).getNodeId());
+    }
+
+    @Test
+    public void testCompiledSetInterrupted() {
+        this.model.getRoot().setNode(null);
+        Assertions.assertThrows(InterruptedPropertyPathException.class, () -> COMPILED.set(this.model, "newId"));
+    }
+
+    @Test
+    public void testRecompile() {
+        ModelProperty<MixedModel, String> recompiled = COMPILED.compile();
+        for (Context context: recompiled.contextualize(this.model)) {
+            Assertions.assertSame(MixedModelProperties.NODE_ID.get(this.model, context), recompiled.get(this.model, context));
+        }
+    }
+
+    @Test
+    public void testMethodHandleGet() {
+        ModelProperty<MixedModel, String> compiled = MixedModelProperties.NODE_ID.compile(CompilationMode.METHOD_HANDLES);
+        for (Context context: compiled.contextualize(this.model)) {
+            Assertions.assertSame(MixedModelProperties.NODE_ID.get(this.model, context), compiled.get(this.model, context));
+        }
+    }
+}
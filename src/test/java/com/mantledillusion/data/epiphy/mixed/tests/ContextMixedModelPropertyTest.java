@@ -1,6 +1,7 @@
 package com.mantledillusion.data.epiphy.mixed.tests;
 
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.context.TraversingMode;
 import com.mantledillusion.data.epiphy.context.reference.PropertyIndex;
 import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
@@ -12,9 +13,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class ContextMixedModelPropertyTest extends AbstractMixedModelPropertyTest {
 
@@ -134,4 +137,67 @@ public class ContextMixedModelPropertyTest extends AbstractMixedModelPropertyTes
         contextsB = new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model, contextsB.get(0), TraversingMode.CHILD));
         Assertions.assertEquals(0, contextsB.size());
     }
+
+    @Test
+    public void testTraverse() {
+        List<Context> expected = new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model));
+        List<Context> actual = new ArrayList<>();
+        MixedModelProperties.NODE_ID.traverse(this.model).forEachRemaining(referencedValue -> {
+            actual.add(referencedValue.getReference());
+            Assertions.assertSame(MixedModelProperties.NODE_ID.get(this.model, referencedValue.getReference()), referencedValue.getValue());
+        });
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testTraverseDepthFirst() {
+        List<String> ids = new ArrayList<>();
+        MixedModelProperties.NODE_ID.traverse(this.model, null, TraversingMode.RECURSIVE, false).
+                forEachRemaining(referencedValue -> ids.add(referencedValue.getValue()));
+        Assertions.assertEquals(Arrays.asList(NODE_ROOT, NODE_CHILD1A, NODE_CHILD2A, NODE_CHILD1B), ids);
+    }
+
+    @Test
+    public void testTraverseBreadthFirst() {
+        List<String> ids = new ArrayList<>();
+        MixedModelProperties.NODE_ID.traverse(this.model, null, TraversingMode.RECURSIVE_BREADTH_FIRST, false).
+                forEachRemaining(referencedValue -> {
+                    ids.add(referencedValue.getValue());
+                    Assertions.assertSame(MixedModelProperties.NODE_ID.get(this.model, referencedValue.getReference()), referencedValue.getValue());
+                });
+        Assertions.assertEquals(Arrays.asList(NODE_ROOT, NODE_CHILD1A, NODE_CHILD1B, NODE_CHILD2A), ids);
+    }
+
+    @Test
+    public void testParallelContexting() {
+        for (int i = 0; i < 50; i++) {
+            MixedModelNode child = new MixedModelNode();
+            child.setNodeId(NODE_CHILD2A + i);
+            child.setSub(new MixedSubType());
+            for (int j = 0; j < 10; j++) {
+                MixedModelNode grandChild = new MixedModelNode();
+                grandChild.setNodeId(NODE_CHILD2A + i + '_' + j);
+                child.getSub().getSubNodes().add(grandChild);
+            }
+            this.model.getRoot().getNode().getSub().getSubNodes().get(1).getSub().getSubNodes().add(child);
+        }
+
+        List<Context> sequential = new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model));
+        List<Context> sequentialBreadthFirst = new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model,
+                null, TraversingMode.RECURSIVE_BREADTH_FIRST, false));
+        int occurrences = MixedModelProperties.NODE.occurrences(this.model);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MixedModelProperties.NODE.setExecutionPolicy(ExecutionPolicy.parallel(pool, 1));
+            Assertions.assertEquals(sequential, new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model)));
+            Assertions.assertEquals(sequentialBreadthFirst, new ArrayList<>(MixedModelProperties.NODE_ID.contextualize(this.model,
+                    null, TraversingMode.RECURSIVE_BREADTH_FIRST, false)));
+            Assertions.assertEquals(occurrences, MixedModelProperties.NODE.occurrences(this.model));
+            Assertions.assertEquals(occurrences, sequential.size());
+        } finally {
+            MixedModelProperties.NODE.setExecutionPolicy(null);
+            pool.shutdown();
+        }
+    }
 }
@@ -32,6 +32,16 @@ public class ContextTest {
         Assertions.assertNotEquals(idx, idx3);
     }
 
+    @Test
+    public void testFactorizeLargeIndex() {
+        PropertyIndex idx = PropertyIndex.of(MixedModelProperties.LISTED_NODE, 1000);
+        PropertyIndex idx2 = PropertyIndex.of(MixedModelProperties.LISTED_NODE, Integer.valueOf(1000));
+        Assertions.assertEquals(1000, idx.getIndex());
+        Assertions.assertEquals(Integer.valueOf(1000), idx2.getReference());
+        Assertions.assertEquals(idx, idx2);
+        Assertions.assertEquals(idx.hashCode(), idx2.hashCode());
+    }
+
     @Test
     public void testFactorizeRoute() {
         PropertyRoute route = PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(), Context.EMPTY);
@@ -116,4 +126,70 @@ public class ContextTest {
 
         Assertions.assertEquals(references , references2);
     }
+
+    @Test
+    public void testUnionOverrides() {
+        PropertyIndex idx0 = PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0);
+        PropertyIndex idx1 = PropertyIndex.of(MixedModelProperties.LISTED_NODE, 1);
+        PropertyRoute route = PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(), Context.EMPTY);
+
+        Context base = Context.of(idx0, route);
+        Context union = base.union(idx1);
+
+        Assertions.assertEquals(2, union.size());
+        Assertions.assertSame(idx1, union.getReference(MixedModelProperties.LISTED_NODE));
+        Assertions.assertSame(route, union.getReference(MixedModelProperties.NODE.getNodeRetriever()));
+        Assertions.assertSame(idx0, base.getReference(MixedModelProperties.LISTED_NODE));
+        Assertions.assertEquals(Context.of(idx1, route), union);
+        Assertions.assertEquals(Context.of(idx1, route).hashCode(), union.hashCode());
+        Assertions.assertNotEquals(base, union);
+    }
+
+    @Test
+    public void testUnionOfDerivedContext() {
+        Context base = Context.of(PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(), Context.EMPTY));
+        Context derived = base.union(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0));
+
+        Assertions.assertSame(derived, base.union(derived));
+        Assertions.assertSame(base, base.union(Context.EMPTY));
+        Assertions.assertSame(base, Context.EMPTY.union(base));
+    }
+
+    @Test
+    public void testDeepUnion() {
+        Context context = Context.EMPTY;
+        for (int i = 0; i < 100; i++) {
+            context = context.union(PropertyIndex.of(MixedModelProperties.LISTED_NODE, i));
+        }
+
+        Assertions.assertEquals(1, context.size());
+        Assertions.assertEquals(99, context.getReference(MixedModelProperties.LISTED_NODE, PropertyIndex.class).getReference());
+        Assertions.assertEquals(Context.of(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 99)), context);
+    }
+
+    @Test
+    public void testFindReference() {
+        PropertyIndex idx = PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0);
+        Context ctx = Context.of(idx);
+
+        Assertions.assertSame(idx, ctx.findReference(MixedModelProperties.LISTED_NODE, PropertyIndex.class));
+        Assertions.assertNull(ctx.findReference(MixedModelProperties.LISTED_NODE, PropertyRoute.class));
+        Assertions.assertNull(ctx.findReference(MixedModelProperties.NODE.getNodeRetriever(), PropertyRoute.class));
+    }
+
+    @Test
+    public void testAppendedRoute() {
+        Context ctx0 = Context.of(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 0));
+        Context ctx1 = Context.of(PropertyIndex.of(MixedModelProperties.LISTED_NODE, 1));
+
+        PropertyRoute appended = PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever()).append(ctx0).append(ctx1);
+        PropertyRoute created = PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(), ctx0, ctx1);
+
+        Assertions.assertEquals(2, appended.length());
+        Assertions.assertArrayEquals(new Context[] {ctx0, ctx1}, appended.getReference());
+        Assertions.assertEquals(created, appended);
+        Assertions.assertEquals(created.hashCode(), appended.hashCode());
+        Assertions.assertNotEquals(created, appended.append(ctx0));
+        Assertions.assertNotEquals(PropertyRoute.of(MixedModelProperties.NODE.getNodeRetriever(), ctx1, ctx0), appended);
+    }
 }
@@ -132,4 +132,18 @@ public class ContextNodeModelPropertyTest extends AbstractNodeModelPropertyTest
         Assertions.assertSame(this.root.getChild().getChild(), NodeModelProperties.NODE.successor(this.root, this.root.getChild()));
         Assertions.assertSame(null, NodeModelProperties.NODE.successor(this.root, this.root.getChild().getChild()));
     }
+
+    @Test
+    public void testDeepTreeContexting() {
+        NodeModel leaf = this.root;
+        for (int i = 0; i < 5000; i++) {
+            NodeModel child = new NodeModel();
+            leaf.setChild(child);
+            leaf = child;
+        }
+
+        Assertions.assertEquals(5001, NodeModelProperties.NODE.occurrences(this.root));
+        Assertions.assertEquals(5001, NodeModelProperties.NODE.contextualize(this.root).size());
+        Assertions.assertSame(leaf, NodeModelProperties.NODE.stream(this.root).reduce((first, second) -> second).orElse(null));
+    }
 }
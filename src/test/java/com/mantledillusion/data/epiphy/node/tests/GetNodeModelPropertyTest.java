@@ -1,12 +1,16 @@
 package com.mantledillusion.data.epiphy.node.tests;
 
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.RouteCache;
 import com.mantledillusion.data.epiphy.context.reference.PropertyRoute;
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
 import com.mantledillusion.data.epiphy.node.AbstractNodeModelPropertyTest;
 import com.mantledillusion.data.epiphy.node.NodeModelProperties;
+import com.mantledillusion.data.epiphy.node.model.NodeModel;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -26,4 +30,25 @@ public class GetNodeModelPropertyTest extends AbstractNodeModelPropertyTest {
 			NodeModelProperties.NODE.get(this.root, context);
 		});
 	}
+
+	@Test
+	public void testGetNodedPropertyCached() {
+		NodeModelProperties.NODE.setRouteCache(RouteCache.of(16));
+		try {
+			PropertyRoute route = PropertyRoute.of(NodeModelProperties.NODE.getNodeRetriever(), Context.EMPTY, Context.EMPTY);
+			Context context = Context.of(route);
+			assertSame(this.root.getChild().getChild(), NodeModelProperties.NODE.get(this.root, context));
+			assertEquals(2, NodeModelProperties.NODE.getRouteCache().size());
+			assertSame(this.root.getChild(), NodeModelProperties.NODE.getRouteCache().lookup(this.root, route.getPrefix()));
+			assertSame(this.root.getChild().getChild(), NodeModelProperties.NODE.get(this.root, context));
+
+			NodeModel replacement = new NodeModel();
+			NodeModelProperties.NODE.set(this.root, replacement, Context.of(route.getPrefix()));
+			assertEquals(0, NodeModelProperties.NODE.getRouteCache().size());
+			assertSame(replacement, NodeModelProperties.NODE.get(this.root, context));
+			assertNull(NodeModelProperties.NODE.get(this.root, Context.of(route.append(Context.EMPTY)), true));
+		} finally {
+			NodeModelProperties.NODE.setRouteCache(null);
+		}
+	}
 }
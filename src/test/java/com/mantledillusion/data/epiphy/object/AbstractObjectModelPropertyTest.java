@@ -20,6 +20,9 @@ public abstract class AbstractObjectModelPropertyTest {
 		
 		ObjectSubSubType subSub = new ObjectSubSubType();
 		subSub.setSubSubId("subSub");
+		subSub.setSubSubCount(3);
+		subSub.setSubSubSize(4L);
+		subSub.setSubSubWeight(0.5);
 		sub.setSubSub(subSub);
 	}
 }
@@ -1,6 +1,9 @@
 package com.mantledillusion.data.epiphy.object;
 
 import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.ModelPropertyDouble;
+import com.mantledillusion.data.epiphy.ModelPropertyInt;
+import com.mantledillusion.data.epiphy.ModelPropertyLong;
 import com.mantledillusion.data.epiphy.object.model.ObjectModel;
 import com.mantledillusion.data.epiphy.object.model.ObjectSubSubType;
 import com.mantledillusion.data.epiphy.object.model.ObjectSubType;
@@ -12,8 +15,14 @@ public interface ObjectModelProperties {
     ModelProperty<ObjectSubType, String> SUBID = ModelProperty.fromObject(ObjectSubType::getSubId, ObjectSubType::setSubId);
     ModelProperty<ObjectSubType, ObjectSubSubType> SUBSUB = ModelProperty.fromObject(ObjectSubType::getSubSub, ObjectSubType::setSubSub);
     ModelProperty<ObjectSubSubType, String> SUBSUBID = ModelProperty.fromObject(ObjectSubSubType::getSubSubId, ObjectSubSubType::setSubSubId);
+    ModelPropertyInt<ObjectSubSubType> SUBSUBCOUNT = ModelPropertyInt.fromObject(ObjectSubSubType::getSubSubCount, ObjectSubSubType::setSubSubCount);
+    ModelPropertyLong<ObjectSubSubType> SUBSUBSIZE = ModelPropertyLong.fromObject(ObjectSubSubType::getSubSubSize, ObjectSubSubType::setSubSubSize);
+    ModelPropertyDouble<ObjectSubSubType> SUBSUBWEIGHT = ModelPropertyDouble.fromObject(ObjectSubSubType::getSubSubWeight);
 
     ModelProperty<ObjectModel, String> MODEL_TO_SUBID = MODELSUB.append(SUBID);
     ModelProperty<ObjectModel, ObjectSubSubType> MODEL_TO_SUBSUB = MODELSUB.append(SUBSUB);
     ModelProperty<ObjectModel, String> MODEL_TO_SUBSUBID = MODEL_TO_SUBSUB.append(SUBSUBID);
+    ModelPropertyInt<ObjectModel> MODEL_TO_SUBSUBCOUNT = MODEL_TO_SUBSUB.append(SUBSUBCOUNT);
+    ModelPropertyLong<ObjectModel> MODEL_TO_SUBSUBSIZE = MODEL_TO_SUBSUB.append(SUBSUBSIZE);
+    ModelPropertyDouble<ObjectModel> MODEL_TO_SUBSUBWEIGHT = MODEL_TO_SUBSUB.append(SUBSUBWEIGHT);
 }
@@ -3,6 +3,9 @@ package com.mantledillusion.data.epiphy.object.model;
 public final class ObjectSubSubType {
 	
 	private String subSubId;
+	private int subSubCount;
+	private long subSubSize;
+	private double subSubWeight;
 
 	public String getSubSubId() {
 		return subSubId;
@@ -11,4 +14,28 @@ public final class ObjectSubSubType {
 	public void setSubSubId(String subSubId) {
 		this.subSubId = subSubId;
 	}
-}
\ No newline at end of file
+
+	public int getSubSubCount() {
+		return subSubCount;
+	}
+
+	public void setSubSubCount(int subSubCount) {
+		this.subSubCount = subSubCount;
+	}
+
+	public long getSubSubSize() {
+		return subSubSize;
+	}
+
+	public void setSubSubSize(long subSubSize) {
+		this.subSubSize = subSubSize;
+	}
+
+	public double getSubSubWeight() {
+		return subSubWeight;
+	}
+
+	public void setSubSubWeight(double subSubWeight) {
+		this.subSubWeight = subSubWeight;
+	}
+}
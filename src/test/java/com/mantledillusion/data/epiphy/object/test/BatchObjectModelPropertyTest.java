@@ -0,0 +1,49 @@
+package com.mantledillusion.data.epiphy.object.test;
+
+import com.mantledillusion.data.epiphy.ModelPropertyBatch;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.object.AbstractObjectModelPropertyTest;
+import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
+import com.mantledillusion.data.epiphy.object.model.ObjectModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchObjectModelPropertyTest extends AbstractObjectModelPropertyTest {
+
+	@Test
+	public void testBatchGet() {
+		ModelPropertyBatch<ObjectModel> batch = ModelPropertyBatch.of(ObjectModelProperties.MODELID,
+				ObjectModelProperties.MODEL_TO_SUBID, ObjectModelProperties.MODEL_TO_SUBSUBID,
+				ObjectModelProperties.MODEL_TO_SUBSUBCOUNT, ObjectModelProperties.MODEL_TO_SUBSUBID.compile());
+		assertEquals(6, batch.getSegmentCount());
+		assertArrayEquals(new Object[] {"model", "sub", "subSub", 3, "subSub"}, batch.get(this.model));
+	}
+
+	@Test
+	public void testBatchGetInterrupted() {
+		ModelPropertyBatch<ObjectModel> batch = ModelPropertyBatch.of(ObjectModelProperties.MODEL_TO_SUBID,
+				ObjectModelProperties.MODEL_TO_SUBSUBID);
+		this.model.getSub().setSubSub(null);
+		assertThrows(InterruptedPropertyPathException.class, () -> {
+			batch.get(this.model);
+		});
+		assertArrayEquals(new Object[] {"sub", null}, batch.get(this.model, null, true));
+	}
+
+	@Test
+	public void testBatchStream() {
+		ObjectModel other = new ObjectModel();
+		other.setModelId("other");
+		ModelPropertyBatch<ObjectModel> batch = ModelPropertyBatch.of(ObjectModelProperties.MODELID,
+				ObjectModelProperties.MODEL_TO_SUBID);
+		List<Object[]> rows = batch.stream(Stream.of(this.model, other), null, true).collect(Collectors.toList());
+		assertEquals(2, rows.size());
+		assertArrayEquals(new Object[] {"model", "sub"}, rows.get(0));
+		assertArrayEquals(new Object[] {"other", null}, rows.get(1));
+	}
+}
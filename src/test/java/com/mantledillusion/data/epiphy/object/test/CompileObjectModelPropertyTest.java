@@ -0,0 +1,57 @@
+package com.mantledillusion.data.epiphy.object.test;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.object.AbstractObjectModelPropertyTest;
+import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
+import com.mantledillusion.data.epiphy.object.model.ObjectModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompileObjectModelPropertyTest extends AbstractObjectModelPropertyTest {
+
+	private static final ModelProperty<ObjectModel, String> STEPS = ObjectModelProperties.MODEL_TO_SUBSUBID.compile(CompilationMode.STEPS);
+	private static final ModelProperty<ObjectModel, String> METHOD_HANDLES = ObjectModelProperties.MODEL_TO_SUBSUBID.compile(CompilationMode.METHOD_HANDLES);
+
+	@Test
+	public void testCompiledGet() {
+		assertEquals(this.model.getSub().getSubSub().getSubSubId(), STEPS.get(this.model));
+		assertEquals(this.model.getSub().getSubSub().getSubSubId(), METHOD_HANDLES.get(this.model));
+	}
+
+	@Test
+	public void testCompiledGetInterrupted() {
+		this.model.getSub().setSubSub(null);
+		assertThrows(InterruptedPropertyPathException.class, () -> STEPS.get(this.model));
+		assertThrows(InterruptedPropertyPathException.class, () -> METHOD_HANDLES.get(this.model));
+	}
+
+	@Test
+	public void testCompiledGetAllowInterrupted() {
+		this.model.getSub().setSubSub(null);
+		assertNull(STEPS.get(this.model, true));
+		assertNull(METHOD_HANDLES.get(this.model, true));
+		assertNull(METHOD_HANDLES.get(null, true));
+	}
+
+	@Test
+	public void testCompiledSet() {
+		METHOD_HANDLES.set(this.model, "newId");
+		assertEquals("newId", this.model.getSub().getSubSub().getSubSubId());
+		STEPS.set(this.model, "newerId");
+		assertEquals("newerId", this.model.getSub().getSubSub().getSubSubId());
+	}
+
+	@Test
+	public void testCompiledSetInterrupted() {
+		this.model.getSub().setSubSub(null);
+		assertThrows(InterruptedPropertyPathException.class, () -> METHOD_HANDLES.set(this.model, "newId"));
+	}
+
+	@Test
+	public void testCompileWithoutMode() {
+		assertThrows(IllegalArgumentException.class, () -> ObjectModelProperties.MODEL_TO_SUBSUBID.compile(null));
+	}
+}
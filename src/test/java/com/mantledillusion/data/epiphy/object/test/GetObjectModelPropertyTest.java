@@ -1,11 +1,15 @@
 package com.mantledillusion.data.epiphy.object.test;
 
 import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.PropertyPathExceptions;
 import com.mantledillusion.data.epiphy.object.AbstractObjectModelPropertyTest;
 import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class GetObjectModelPropertyTest extends AbstractObjectModelPropertyTest {
@@ -28,4 +32,30 @@ public class GetObjectModelPropertyTest extends AbstractObjectModelPropertyTest
 		this.model.getSub().setSubSub(null);
 		assertEquals(null, ObjectModelProperties.MODEL_TO_SUBSUBID.get(this.model, true));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testGetInterruptedLightweight() {
+		this.model.getSub().setSubSub(null);
+		InterruptedPropertyPathException regular = assertThrows(InterruptedPropertyPathException.class, () -> {
+			ObjectModelProperties.MODEL_TO_SUBSUBID.get(this.model);
+		});
+		PropertyPathExceptions.setLightweight(true);
+		try {
+			InterruptedPropertyPathException first = assertThrows(InterruptedPropertyPathException.class, () -> {
+				ObjectModelProperties.MODEL_TO_SUBSUBID.get(this.model);
+			});
+			InterruptedPropertyPathException second = assertThrows(InterruptedPropertyPathException.class, () -> {
+				ObjectModelProperties.MODEL_TO_SUBSUBID.get(this.model);
+			});
+			assertNotSame(first, second);
+			assertEquals(0, first.getStackTrace().length);
+			assertEquals(regular.getMessage(), first.getMessage());
+			assertSame(ObjectModelProperties.SUBSUBID, first.getProperty());
+		} finally {
+			PropertyPathExceptions.setLightweight(false);
+		}
+		assertNotEquals(0, assertThrows(InterruptedPropertyPathException.class, () -> {
+			ObjectModelProperties.MODEL_TO_SUBSUBID.get(this.model);
+		}).getStackTrace().length);
+	}
+}
@@ -0,0 +1,91 @@
+package com.mantledillusion.data.epiphy.object.test;
+
+import com.mantledillusion.data.epiphy.ModelProperty;
+import com.mantledillusion.data.epiphy.ModelPropertyInt;
+import com.mantledillusion.data.epiphy.ModelPropertyLong;
+import com.mantledillusion.data.epiphy.context.CompilationMode;
+import com.mantledillusion.data.epiphy.exception.InterruptedPropertyPathException;
+import com.mantledillusion.data.epiphy.exception.ReadonlyPropertyException;
+import com.mantledillusion.data.epiphy.object.AbstractObjectModelPropertyTest;
+import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
+import com.mantledillusion.data.epiphy.object.model.ObjectModel;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubSubType;
+import com.mantledillusion.data.epiphy.object.model.ObjectSubType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveObjectModelPropertyTest extends AbstractObjectModelPropertyTest {
+
+	@Test
+	public void testGetAsPrimitive() {
+		assertEquals(3, ObjectModelProperties.MODEL_TO_SUBSUBCOUNT.getAsInt(this.model));
+		assertEquals(4L, ObjectModelProperties.MODEL_TO_SUBSUBSIZE.getAsLong(this.model));
+		assertEquals(0.5, ObjectModelProperties.MODEL_TO_SUBSUBWEIGHT.getAsDouble(this.model));
+		assertEquals(Integer.valueOf(3), ObjectModelProperties.MODEL_TO_SUBSUBCOUNT.get(this.model));
+	}
+
+	@Test
+	public void testGetAsPrimitiveInterrupted() {
+		this.model.getSub().setSubSub(null);
+		assertThrows(InterruptedPropertyPathException.class, () -> {
+			ObjectModelProperties.MODEL_TO_SUBSUBCOUNT.getAsInt(this.model);
+		});
+		assertNull(ObjectModelProperties.MODEL_TO_SUBSUBCOUNT.get(this.model, true));
+	}
+
+	@Test
+	public void testSetAsPrimitive() {
+		ObjectModelProperties.MODEL_TO_SUBSUBCOUNT.setAsInt(this.model, 5);
+		assertEquals(5, this.model.getSub().getSubSub().getSubSubCount());
+		ObjectModelProperties.MODEL_TO_SUBSUBSIZE.set(this.model, 6L);
+		assertEquals(6L, this.model.getSub().getSubSub().getSubSubSize());
+		assertThrows(ReadonlyPropertyException.class, () -> {
+			ObjectModelProperties.MODEL_TO_SUBSUBWEIGHT.setAsDouble(this.model, 1.0);
+		});
+	}
+
+	@Test
+	public void testStreamAsPrimitive() {
+		ObjectModel other = new ObjectModel();
+		List<ObjectModel> models = Arrays.asList(this.model, null, other);
+		ModelPropertyInt<List<ObjectModel>> counts = ModelProperty.<ObjectModel>fromList().
+				append(ObjectModelProperties.MODEL_TO_SUBSUBCOUNT);
+		assertEquals(3, counts.streamAsInt(models).sum());
+
+		this.model.getSub().getSubSub().setSubSubCount(7);
+		for (CompilationMode mode: CompilationMode.values()) {
+			assertEquals(7, counts.compile(mode).streamAsInt(models).sum());
+		}
+	}
+
+	@Test
+	public void testSumAsPrimitive() {
+		List<ObjectModel> models = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			ObjectSubSubType subSub = new ObjectSubSubType();
+			subSub.setSubSubSize((1L << 53) + 1);
+			ObjectSubType sub = new ObjectSubType();
+			sub.setSubSub(subSub);
+			ObjectModel model = new ObjectModel();
+			model.setSub(sub);
+			models.add(model);
+		}
+		models.add(null);
+		ModelPropertyLong<List<ObjectModel>> sizes = ModelProperty.<ObjectModel>fromList().
+				append(ObjectModelProperties.MODEL_TO_SUBSUBSIZE);
+		assertEquals(1000L * ((1L << 53) + 1), sizes.sumAsLong(models));
+		assertEquals(1000L * ((1L << 53) + 1), sizes.sumAsLong(models, null, true));
+		assertTrue(sizes.averageAsLong(models).isPresent());
+		assertFalse(sizes.averageAsLong(null).isPresent());
+
+		ModelPropertyInt<List<ObjectModel>> counts = ModelProperty.<ObjectModel>fromList().
+				append(ObjectModelProperties.MODEL_TO_SUBSUBCOUNT);
+		models.get(0).getSub().getSubSub().setSubSubCount(1000);
+		assertEquals(1000, counts.sumAsInt(models, null, true));
+	}
+}
@@ -6,6 +6,7 @@ import com.mantledillusion.data.epiphy.object.ObjectModelProperties;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SetObjectModelPropertyTest extends AbstractObjectModelPropertyTest {
@@ -16,6 +17,16 @@ public class SetObjectModelPropertyTest extends AbstractObjectModelPropertyTest
 		assertEquals(this.model.getModelId(), ObjectModelProperties.MODELID.get(this.model));
 	}
 
+	@Test
+	public void testSetAll() {
+		ObjectModelProperties.MODEL_TO_SUBSUBID.setAll(this.model, id -> id + "Reset");
+		assertEquals("subSubReset", this.model.getSub().getSubSub().getSubSubId());
+
+		this.model.getSub().setSubSub(null);
+		ObjectModelProperties.MODEL_TO_SUBSUBID.setAll(this.model, "newId");
+		assertNull(this.model.getSub().getSubSub());
+	}
+
 	@Test
 	public void testSetInterrupted() {
 		this.model.getSub().setSubSub(null);
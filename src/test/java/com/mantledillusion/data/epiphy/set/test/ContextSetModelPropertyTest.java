@@ -1,6 +1,7 @@
 package com.mantledillusion.data.epiphy.set.test;
 
 import com.mantledillusion.data.epiphy.context.Context;
+import com.mantledillusion.data.epiphy.context.ExecutionPolicy;
 import com.mantledillusion.data.epiphy.context.reference.PropertyKey;
 import com.mantledillusion.data.epiphy.set.AbstractSetModelPropertyTest;
 import com.mantledillusion.data.epiphy.set.SetModelProperties;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class ContextSetModelPropertyTest extends AbstractSetModelPropertyTest {
 
@@ -89,6 +91,28 @@ public class ContextSetModelPropertyTest extends AbstractSetModelPropertyTest {
         Assertions.assertSame(object, SetModelProperties.ELEMENT.get(list, context));
     }
 
+    @Test
+    public void testParallelContexting() {
+        Set<Object> set = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        Set<Context> sequential = new HashSet<>(SetModelProperties.ELEMENT.contextualize(set));
+        Set<Context> sequentialValue = new HashSet<>(SetModelProperties.ELEMENT.contextualize(set, 42));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ExecutionPolicy.setDefault(ExecutionPolicy.parallel(pool, 10));
+            Assertions.assertEquals(sequential, new HashSet<>(SetModelProperties.ELEMENT.contextualize(set)));
+            Assertions.assertEquals(sequentialValue, new HashSet<>(SetModelProperties.ELEMENT.contextualize(set, 42)));
+            Assertions.assertEquals(100, sequential.size());
+            Assertions.assertEquals(1, sequentialValue.size());
+        } finally {
+            ExecutionPolicy.setDefault(ExecutionPolicy.SEQUENTIAL);
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testStream() {
         Set<String> expected = new HashSet<>(Arrays.asList(ELEMENT_A, ELEMENT_B));